@@ -0,0 +1,124 @@
+package com.arriaga.invex.employeeservice.api;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResultResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequests;
+import com.arriaga.invex.employeeservice.api.dto.EmployeePageResponse;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.service.EmployeeBulkJobService;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/employees/bulk-jobs")
+@Tag(name = "Employee bulk jobs", description = "Asynchronous employee creation")
+public class EmployeeBulkJobController {
+
+  private static final int DEFAULT_RESULTS_LIMIT = 100;
+  private static final int MAX_RESULTS_LIMIT = 500;
+
+  private final EmployeeBulkJobService bulkJobService;
+  private final Validator validator;
+
+  public EmployeeBulkJobController(EmployeeBulkJobService bulkJobService, Validator validator) {
+    this.bulkJobService = bulkJobService;
+    this.validator = validator;
+  }
+
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Submit bulk job",
+      description = "Queues an employee object or array for creation and returns immediately; "
+          + "poll the Location header for progress and its results endpoint for per-row outcomes")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "202", description = "Job queued")
+  @ApiResponse(responseCode = "400", description = "Invalid request",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "429", description = "Job queue is full; retry after the Retry-After seconds",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public ResponseEntity<EmployeeBulkJobResponse> submitBulkJob(@RequestBody EmployeeCreateRequests requestBody) {
+    List<EmployeeCreateRequest> requests = requestBody.getItems();
+    List<Employee> rows = new ArrayList<>(requests.size());
+    List<EmployeeBulkJobResult> rejected = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      List<String> violations = validator.validate(requests.get(i)).stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .toList();
+      if (violations.isEmpty()) {
+        rows.add(EmployeeMapper.toEntity(requests.get(i)));
+      } else {
+        rows.add(null);
+        rejected.add(new EmployeeBulkJobResult(i, null, violations));
+      }
+    }
+    EmployeeBulkJob job = bulkJobService.submit(rows, rejected);
+    URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+        .path("/{id}")
+        .buildAndExpand(job.getId())
+        .toUri();
+    return ResponseEntity.accepted()
+        .location(location)
+        .body(EmployeeMapper.toResponse(job));
+  }
+
+  @GetMapping("/{id}")
+  @Operation(summary = "Get bulk job", description = "Returns job status and progress counters")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Job returned")
+  @ApiResponse(responseCode = "404", description = "Job not found",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeeBulkJobResponse getBulkJob(@PathVariable String id) {
+    return EmployeeMapper.toResponse(bulkJobService.find(id));
+  }
+
+  @GetMapping("/{id}/results")
+  @Operation(summary = "List bulk job results",
+      description = "Returns per-row results ordered by row index; pass nextCursor as after to continue")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Results page returned")
+  @ApiResponse(responseCode = "400", description = "Invalid limit or cursor",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "404", description = "Job not found",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeePageResponse<EmployeeBulkJobResultResponse> getBulkJobResults(
+      @PathVariable String id,
+      @Parameter(description = "Page size (1-" + MAX_RESULTS_LIMIT + ", default " + DEFAULT_RESULTS_LIMIT + ")")
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+      @RequestParam(value = "after", required = false) String after) {
+    int pageSize = limit == null ? DEFAULT_RESULTS_LIMIT : limit;
+    if (pageSize < 1 || pageSize > MAX_RESULTS_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_RESULTS_LIMIT);
+    }
+    EmployeePage<EmployeeBulkJobResult> page = bulkJobService.findResults(id, EmployeeCursor.decode(after), pageSize);
+    EmployeePageResponse<EmployeeBulkJobResultResponse> response = new EmployeePageResponse<>();
+    response.setItems(page.getItems().stream()
+        .map(EmployeeMapper::toResponse)
+        .toList());
+    response.setNextCursor(EmployeeCursor.encode(page.getNextAfterId()));
+    return response;
+  }
+}
@@ -1,22 +1,49 @@
 package com.arriaga.invex.employeeservice.api;
 
 import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequests;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeLookupRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeLookupResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeePageResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeUpdateRequest;
+import com.arriaga.invex.employeeservice.api.dto.HeadcountGroupResponse;
+import com.arriaga.invex.employeeservice.api.dto.NameSuggestionResponse;
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import com.arriaga.invex.employeeservice.exception.EmployeeVersionMismatchException;
+import com.arriaga.invex.employeeservice.search.EmployeeSearchIndex;
+import com.arriaga.invex.employeeservice.service.EmployeeField;
+import com.arriaga.invex.employeeservice.service.EmployeeLookup;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
 import com.arriaga.invex.employeeservice.service.EmployeeService;
+import com.arriaga.invex.employeeservice.service.HeadcountDimension;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
 import javax.validation.Validator;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,9 +51,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,25 +71,213 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Employees", description = "Employee management endpoints")
 public class EmployeeController {
 
+  static final String NDJSON_VALUE = "application/x-ndjson";
+  static final String SMILE_VALUE = "application/x-jackson-smile";
+  static final String CSV_VALUE = "text/csv";
+  static final String PREFER = "Prefer";
+  static final String PREFERENCE_APPLIED = "Preference-Applied";
+  static final String RETURN_MINIMAL = "return=minimal";
+
+  private static final int MAX_PAGE_SIZE = 500;
+  private static final int DEFAULT_SEARCH_LIMIT = 20;
+  private static final int MAX_SEARCH_LIMIT = 100;
+  private static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+  private static final List<MediaType> COLLECTION_FORMATS =
+      List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+  private static final String FIELDS_DESCRIPTION = "Comma-separated fields to return: id, firstName, middleName, "
+      + "lastName, secondLastName, age, sex, birthDate, position, createdAt, active";
+
   private final EmployeeService employeeService;
+  private final EmployeeResponseQueries responseQueries;
   private final ObjectMapper objectMapper;
   private final Validator validator;
+  private final EmployeeJsonCache jsonCache;
+  private final EmployeeImporter importer;
+  private final ObjectWriter responseWriter;
+  private final int maxLookupIds;
 
   public EmployeeController(
       EmployeeService employeeService,
+      EmployeeResponseQueries responseQueries,
       ObjectMapper objectMapper,
-      Validator validator) {
+      Validator validator,
+      EmployeeJsonCache jsonCache,
+      EmployeeImporter importer,
+      @Value("${employee.lookup.max-ids:1000}") int maxLookupIds) {
     this.employeeService = employeeService;
+    this.responseQueries = responseQueries;
     this.objectMapper = objectMapper;
     this.validator = validator;
+    this.jsonCache = jsonCache;
+    this.importer = importer;
+    this.responseWriter = objectMapper.writerFor(EmployeeResponse.class);
+    this.maxLookupIds = maxLookupIds;
   }
 
   @GetMapping
-  @Operation(summary = "List employees", description = "Returns all employees")
+  @Operation(summary = "List employees", description = "Returns all employees ordered by id. "
+      + "Optional filters: position, active, minAge, maxAge, bornFrom and bornTo (dd-MM-yyyy)")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees returned")
+  @ApiResponse(responseCode = "304", description = "Employees not modified since the ETag in If-None-Match")
+  @ApiResponse(responseCode = "400", description = "Invalid filter range",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public List<EmployeeResponse> getAllEmployees(@ParameterObject EmployeeFilter filter, WebRequest request) {
+    varyByAccept(request);
+    if (request.checkNotModified(collectionEtag(request))) {
+      return null;
+    }
+    return responseQueries.findAll(filter);
+  }
+
+  @GetMapping(params = {"fields", "!ids"})
+  @Operation(summary = "List employees with selected fields",
+      description = "Returns all employees reading only the requested fields. "
+          + "Accepts the same filters as the full list")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees returned")
+  @ApiResponse(responseCode = "400", description = "Unsupported field",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public List<Map<String, Object>> getAllEmployeesFields(
+      @Parameter(description = FIELDS_DESCRIPTION, required = true)
+      @RequestParam("fields") List<String> fields,
+      @ParameterObject EmployeeFilter filter) {
+    return employeeService.findAllFields(filter, parseFields(fields)).stream()
+        .map(EmployeeMapper::toSparseResponse)
+        .toList();
+  }
+
+  @GetMapping(params = "ids")
+  @Operation(summary = "Get employees by IDs",
+      description = "Returns the requested employees in request order and lists the IDs that do not exist")
   @SecurityRequirement(name = "bearerAuth")
   @ApiResponse(responseCode = "200", description = "Employees returned")
-  public List<EmployeeResponse> getAllEmployees() {
-    return employeeService.findAll().stream()
+  @ApiResponse(responseCode = "400", description = "Too many IDs",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeeLookupResponse getEmployeesByIds(
+      @Parameter(description = "Comma-separated employee IDs", required = true)
+      @RequestParam("ids") List<Long> ids) {
+    return lookup(ids);
+  }
+
+  @PostMapping("/lookup")
+  @Operation(summary = "Look up employees by IDs",
+      description = "Same as GET /employees?ids= for ID sets too long for a query string")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees returned")
+  @ApiResponse(responseCode = "400", description = "Too many IDs",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "422", description = "Validation error",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeeLookupResponse lookupEmployees(@Valid @RequestBody EmployeeLookupRequest request) {
+    return lookup(request.getIds());
+  }
+
+  @GetMapping(params = {"limit", "!ids"})
+  @Operation(summary = "List employees page",
+      description = "Returns employees ordered by id using keyset pagination; pass nextCursor as after to continue. "
+          + "Optional filters: position, active, minAge, maxAge, bornFrom and bornTo (dd-MM-yyyy)")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees page returned")
+  @ApiResponse(responseCode = "400", description = "Invalid limit or cursor",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeePageResponse<EmployeeResponse> getEmployeesPage(
+      @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", required = true)
+      @RequestParam("limit") int limit,
+      @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+      @RequestParam(value = "after", required = false) String after,
+      @ParameterObject EmployeeFilter filter) {
+    validatePageSize(limit);
+    EmployeePage<EmployeeResponse> page = responseQueries.findPage(filter, EmployeeCursor.decode(after), limit);
+    EmployeePageResponse<EmployeeResponse> response = new EmployeePageResponse<>();
+    response.setItems(page.getItems());
+    response.setNextCursor(EmployeeCursor.encode(page.getNextAfterId()));
+    return response;
+  }
+
+  @GetMapping(params = {"limit", "fields", "!ids"})
+  @Operation(summary = "List employees page with selected fields",
+      description = "Same as the employees page but reads and returns only the requested fields")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees page returned")
+  @ApiResponse(responseCode = "400", description = "Invalid limit, cursor or field",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeePageResponse<Map<String, Object>> getEmployeesPageFields(
+      @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", required = true)
+      @RequestParam("limit") int limit,
+      @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+      @RequestParam(value = "after", required = false) String after,
+      @Parameter(description = FIELDS_DESCRIPTION, required = true)
+      @RequestParam("fields") List<String> fields,
+      @ParameterObject EmployeeFilter filter) {
+    validatePageSize(limit);
+    EmployeePage<Map<String, Object>> page = employeeService.findPageFields(
+        filter, EmployeeCursor.decode(after), limit, parseFields(fields));
+    EmployeePageResponse<Map<String, Object>> response = new EmployeePageResponse<>();
+    response.setItems(page.getItems().stream()
+        .map(EmployeeMapper::toSparseResponse)
+        .toList());
+    response.setNextCursor(EmployeeCursor.encode(page.getNextAfterId()));
+    return response;
+  }
+
+  @GetMapping(value = "/export", produces = NDJSON_VALUE)
+  @Operation(summary = "Export employees",
+      description = "Streams every employee ordered by id as newline-delimited JSON")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees streamed",
+      content = @Content(mediaType = NDJSON_VALUE, schema = @Schema(implementation = EmployeeResponse.class)))
+  public void exportEmployees(HttpServletResponse response) throws IOException {
+    response.setContentType(NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    ObjectWriter writer = objectMapper.writerFor(EmployeeResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+      generator.setRootValueSeparator(null);
+      employeeService.exportAll(employee -> writeLine(writer, generator, EmployeeMapper.toResponse(employee)));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  @GetMapping(value = "/export", produces = CSV_VALUE)
+  @Operation(summary = "Export employees as CSV",
+      description = "Streams every employee ordered by id as UTF-8 CSV with a header row")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees streamed",
+      content = @Content(mediaType = CSV_VALUE))
+  public void exportEmployeesCsv(HttpServletResponse response) throws IOException {
+    response.setContentType(CSV_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    EmployeeCsvWriter writer = new EmployeeCsvWriter(response.getOutputStream());
+    writer.writeHeader();
+    try {
+      employeeService.exportAll(employee -> writeRow(writer, employee));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    writer.flush();
+  }
+
+  @GetMapping("/stats")
+  @Operation(summary = "Headcount statistics",
+      description = "Returns employee counts and average age grouped by any of position, sex and active")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Statistics returned")
+  @ApiResponse(responseCode = "400", description = "Unsupported groupBy field",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public List<HeadcountGroupResponse> getHeadcountStats(
+      @Parameter(description = "Comma-separated fields: position, sex, active")
+      @RequestParam(value = "groupBy", required = false) List<String> groupBy) {
+    EnumSet<HeadcountDimension> dimensions = EnumSet.noneOf(HeadcountDimension.class);
+    if (groupBy != null) {
+      for (String key : groupBy) {
+        if (!key.isBlank()) {
+          dimensions.add(HeadcountDimension.fromKey(key));
+        }
+      }
+    }
+    return employeeService.headcount(dimensions).stream()
         .map(EmployeeMapper::toResponse)
         .toList();
   }
@@ -67,12 +285,59 @@ public class EmployeeController {
   @GetMapping("/{id}")
   @Operation(summary = "Get employee by ID", description = "Returns an employee by ID")
   @SecurityRequirement(name = "bearerAuth")
-  @ApiResponse(responseCode = "200", description = "Employee returned")
+  @ApiResponse(responseCode = "200", description = "Employee returned",
+      content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+          schema = @Schema(implementation = EmployeeResponse.class)))
+  @ApiResponse(responseCode = "304", description = "Employee not modified since the ETag in If-None-Match")
   @ApiResponse(responseCode = "404", description = "Employee not found",
       content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
-  public EmployeeResponse getEmployeeById(@PathVariable Long id) {
+  public ResponseEntity<byte[]> getEmployeeById(@PathVariable Long id, WebRequest request) {
     Employee employee = employeeService.getById(id);
-    return EmployeeMapper.toResponse(employee);
+    varyByAccept(request);
+    if (request.checkNotModified(etagOf(employee))) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(jsonCache.get(employee, this::serialize));
+  }
+
+  @GetMapping(value = "/{id}", produces = {SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  @Operation(summary = "Get employee by ID", description = "Returns an employee by ID encoded as Smile or CBOR")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employee returned",
+      content = {
+          @Content(mediaType = SMILE_VALUE, schema = @Schema(implementation = EmployeeResponse.class)),
+          @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = EmployeeResponse.class))
+      })
+  @ApiResponse(responseCode = "304", description = "Employee not modified since the ETag in If-None-Match")
+  @ApiResponse(responseCode = "404", description = "Employee not found",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public ResponseEntity<EmployeeResponse> getEmployeeBinaryById(@PathVariable Long id, WebRequest request) {
+    Employee employee = employeeService.getById(id);
+    MediaType format = binaryFormatOf(request);
+    varyByAccept(request);
+    if (request.checkNotModified(etagOf(employee, format))) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .contentType(format)
+        .body(EmployeeMapper.toResponse(employee));
+  }
+
+  @GetMapping(value = "/{id}", params = "fields")
+  @Operation(summary = "Get employee fields by ID", description = "Returns only the requested fields of an employee")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employee returned")
+  @ApiResponse(responseCode = "400", description = "Unsupported field",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "404", description = "Employee not found",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public Map<String, Object> getEmployeeFieldsById(
+      @PathVariable Long id,
+      @Parameter(description = FIELDS_DESCRIPTION, required = true)
+      @RequestParam("fields") List<String> fields) {
+    return EmployeeMapper.toSparseResponse(employeeService.getFieldsById(id, parseFields(fields)));
   }
 
   @PostMapping
@@ -83,8 +348,8 @@ public class EmployeeController {
   @ApiResponse(responseCode = "422", description = "Validation error",
       content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
   public ResponseEntity<List<EmployeeResponse>> createEmployees(
-      @RequestBody JsonNode requestBody) {
-    List<EmployeeCreateRequest> requests = parseCreateRequests(requestBody);
+      @RequestBody EmployeeCreateRequests requestBody) {
+    List<EmployeeCreateRequest> requests = requestBody.getItems();
     if (requests.isEmpty()) {
       throw new IllegalArgumentException("Request body must contain at least one employee");
     }
@@ -112,16 +377,52 @@ public class EmployeeController {
     return ResponseEntity.status(HttpStatus.CREATED).body(responses);
   }
 
+  @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+  @Operation(summary = "Import employees",
+      description = "Streams a JSON array or NDJSON of employees, validating each record and saving them in chunks; "
+          + "invalid records are reported by their position in the body")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Import finished; see imported, failed and errors")
+  @ApiResponse(responseCode = "400", description = "Body is not an object, array or NDJSON",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeeImportResponse importEmployees(InputStream body) throws IOException {
+    return importer.importJson(body);
+  }
+
+  @PostMapping(value = "/import", consumes = CSV_VALUE)
+  @Operation(summary = "Import employees from CSV",
+      description = "Streams UTF-8 CSV whose header names the employee fields (as in the CSV export; id and createdAt "
+          + "are ignored), validating each row and saving them in chunks; invalid rows are reported by their "
+          + "position after the header")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Import finished; see imported, failed and errors")
+  @ApiResponse(responseCode = "400", description = "Unsupported or duplicate header column",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public EmployeeImportResponse importEmployeesCsv(InputStream body) throws IOException {
+    return importer.importCsv(body);
+  }
+
   @PutMapping("/{id}")
-  @Operation(summary = "Update employee", description = "Updates provided employee fields")
+  @Operation(summary = "Update employee",
+      description = "Updates provided employee fields; send the ETag as If-Match to reject the update if the employee changed "
+          + "and Prefer: return=minimal to skip reading the employee back")
   @SecurityRequirement(name = "bearerAuth")
   @ApiResponse(responseCode = "200", description = "Employee updated")
+  @ApiResponse(responseCode = "204", description = "Employee updated; returned for Prefer: return=minimal")
   @ApiResponse(responseCode = "404", description = "Employee not found",
       content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "409", description = "Employee modified concurrently",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
   @ApiResponse(responseCode = "422", description = "Validation error",
       content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
-  public EmployeeResponse updateEmployee(
+  public ResponseEntity<EmployeeResponse> updateEmployee(
       @PathVariable Long id,
+      @Parameter(description = "ETag previously returned for this employee, or *")
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Parameter(description = "return=minimal to answer 204 without the updated employee")
+      @RequestHeader(value = PREFER, required = false) String prefer,
       @Valid @RequestBody EmployeeUpdateRequest request) {
     Employee updates = new Employee();
     updates.setFirstName(request.getFirstName());
@@ -134,8 +435,22 @@ public class EmployeeController {
     updates.setPosition(request.getPosition());
     updates.setActive(request.getActive());
 
-    Employee updated = employeeService.updatePartial(id, updates);
-    return EmployeeMapper.toResponse(updated);
+    Long expectedVersion = expectedVersion(id, ifMatch);
+    boolean minimal = prefersMinimal(prefer);
+    Employee updated = employeeService.updatePartial(id, updates, expectedVersion, !minimal);
+    if (minimal) {
+      ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent()
+          .header(PREFERENCE_APPLIED, RETURN_MINIMAL);
+      if (updated != null) {
+        response.eTag(etagOf(updated));
+      } else if (expectedVersion != null) {
+        response.eTag(etagOf(id, expectedVersion + 1));
+      }
+      return response.build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etagOf(updated))
+        .body(EmployeeMapper.toResponse(updated));
   }
 
   @DeleteMapping("/{id}")
@@ -150,50 +465,230 @@ public class EmployeeController {
   }
 
   @GetMapping("/search")
-  @Operation(summary = "Search employees", description = "Performs case-insensitive partial match across name fields")
+  @Operation(summary = "Search employees", description = "Performs case- and accent-insensitive partial match across name fields and returns the best matches first: "
+          + "exact name, then prefix, then substring, weighting first and last name")
   @SecurityRequirement(name = "bearerAuth")
   @ApiResponse(responseCode = "200", description = "Employees returned")
+  @ApiResponse(responseCode = "304", description = "Employees not modified since the ETag in If-None-Match")
   public List<EmployeeResponse> searchEmployeesByName(
       @Parameter(description = "Name fragment to search", required = true)
-      @RequestParam("name") String name) {
-    String normalized = name == null ? "" : name.trim().toLowerCase();
-    List<EmployeeResponse> responses = new ArrayList<>();
-    for (Employee employee : employeeService.findAll()) {
-      String fullName = String.join(" ",
-          valueOrEmpty(employee.getFirstName()),
-          valueOrEmpty(employee.getMiddleName()),
-          valueOrEmpty(employee.getLastName()),
-          valueOrEmpty(employee.getSecondLastName())).trim().toLowerCase();
-      if (!normalized.isEmpty() && fullName.contains(normalized)) {
-        responses.add(EmployeeMapper.toResponse(employee));
+      @RequestParam("name") String name,
+      @Parameter(description = "Maximum results (1-" + MAX_SEARCH_LIMIT + ")")
+      @RequestParam(value = "limit", defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit,
+      @Parameter(description = "Match name tokens within edit distance 1-2 instead of by substring")
+      @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+      WebRequest request) {
+    validateSearchLimit(limit);
+    varyByAccept(request);
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && request.checkNotModified(collectionEtag(request))) {
+      return null;
+    }
+    return responseQueries.searchByName(name, limit, fuzzy);
+  }
+
+  @GetMapping(value = "/search", params = "fields")
+  @Operation(summary = "Search employees with selected fields",
+      description = "Same ranking as the employee search but reads and returns only the requested fields")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Employees returned")
+  @ApiResponse(responseCode = "400", description = "Invalid limit or field",
+      content = @Content(schema = @Schema(implementation = com.arriaga.invex.employeeservice.exception.ApiErrorResponse.class)))
+  public List<Map<String, Object>> searchEmployeesFieldsByName(
+      @Parameter(description = "Name fragment to search", required = true)
+      @RequestParam("name") String name,
+      @Parameter(description = "Maximum results (1-" + MAX_SEARCH_LIMIT + ")")
+      @RequestParam(value = "limit", defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit,
+      @Parameter(description = "Match name tokens within edit distance 1-2 instead of by substring")
+      @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+      @Parameter(description = FIELDS_DESCRIPTION, required = true)
+      @RequestParam("fields") List<String> fields) {
+    validateSearchLimit(limit);
+    return employeeService.searchFieldsByName(name, limit, fuzzy, parseFields(fields)).stream()
+        .map(EmployeeMapper::toSparseResponse)
+        .toList();
+  }
+
+  @GetMapping("/autocomplete")
+  @Operation(summary = "Autocomplete names",
+      description = "Returns the most frequent name tokens starting with the given prefix")
+  @SecurityRequirement(name = "bearerAuth")
+  @ApiResponse(responseCode = "200", description = "Suggestions returned")
+  public List<NameSuggestionResponse> autocompleteNames(
+      @Parameter(description = "Name prefix", required = true)
+      @RequestParam("prefix") String prefix,
+      @Parameter(description = "Maximum suggestions (1-" + EmployeeSearchIndex.MAX_SUGGESTIONS + ")")
+      @RequestParam(value = "limit", defaultValue = "" + EmployeeSearchIndex.MAX_SUGGESTIONS) int limit) {
+    if (limit < 1 || limit > EmployeeSearchIndex.MAX_SUGGESTIONS) {
+      throw new IllegalArgumentException("limit must be between 1 and " + EmployeeSearchIndex.MAX_SUGGESTIONS);
+    }
+    return employeeService.suggestNames(prefix, limit).stream()
+        .map(EmployeeMapper::toResponse)
+        .toList();
+  }
+
+  private EmployeeLookupResponse lookup(List<Long> ids) {
+    if (ids.size() > maxLookupIds) {
+      throw new IllegalArgumentException("At most " + maxLookupIds + " ids can be requested at once");
+    }
+    EmployeeLookup lookup = employeeService.findAllByIds(ids);
+    EmployeeLookupResponse response = new EmployeeLookupResponse();
+    response.setItems(lookup.getItems().stream()
+        .map(EmployeeMapper::toResponse)
+        .toList());
+    response.setMissingIds(lookup.getMissingIds());
+    return response;
+  }
+
+  private void validatePageSize(int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+    }
+  }
+
+  private void validateSearchLimit(int limit) {
+    if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+    }
+  }
+
+  private Set<EmployeeField> parseFields(List<String> fields) {
+    EnumSet<EmployeeField> selected = EnumSet.noneOf(EmployeeField.class);
+    for (String key : fields) {
+      if (!key.isBlank()) {
+        selected.add(EmployeeField.fromKey(key));
       }
     }
-    return responses;
+    if (selected.isEmpty()) {
+      throw new IllegalArgumentException("fields must name at least one field");
+    }
+    return selected;
+  }
+
+  private String etagOf(Employee employee) {
+    return etagOf(employee.getId(), employee.getVersion());
+  }
+
+  private String etagOf(Long id, Long version) {
+    return "\"" + id + "-" + version + "\"";
   }
 
-  private List<EmployeeCreateRequest> parseCreateRequests(JsonNode requestBody) {
-    List<EmployeeCreateRequest> requests = new ArrayList<>();
-    if (requestBody == null || requestBody.isNull()) {
-      return requests;
+  private String etagOf(Employee employee, MediaType format) {
+    return "\"" + employee.getId() + "-" + employee.getVersion() + "-" + variantOf(format) + "\"";
+  }
+
+  private String variantOf(MediaType format) {
+    return SMILE.equalsTypeAndSubtype(format) ? "smile" : "cbor";
+  }
+
+  private MediaType binaryFormatOf(WebRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept != null) {
+      List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+      MediaType.sortBySpecificityAndQuality(accepted);
+      for (MediaType type : accepted) {
+        if (type.getQualityValue() > 0 && !type.isWildcardSubtype()) {
+          if (type.isCompatibleWith(SMILE)) {
+            return SMILE;
+          }
+          if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+            return MediaType.APPLICATION_CBOR;
+          }
+        }
+      }
+    }
+    return SMILE;
+  }
+
+  private MediaType negotiatedFormatOf(WebRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept == null) {
+      return MediaType.APPLICATION_JSON;
+    }
+    List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+    MediaType.sortBySpecificityAndQuality(accepted);
+    List<MediaType> candidates = new ArrayList<>();
+    for (MediaType type : accepted) {
+      for (MediaType format : COLLECTION_FORMATS) {
+        if (type.getQualityValue() > 0 && type.isCompatibleWith(format)) {
+          candidates.add(format.copyQualityValue(type));
+        }
+      }
+    }
+    MediaType.sortBySpecificityAndQuality(candidates);
+    return candidates.isEmpty() ? MediaType.APPLICATION_JSON : candidates.get(0).removeQualityValue();
+  }
+
+  private void varyByAccept(WebRequest request) {
+    if (request instanceof NativeWebRequest nativeRequest) {
+      HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+      if (response != null) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+      }
+    }
+  }
+
+  private boolean prefersMinimal(String prefer) {
+    if (prefer == null) {
+      return false;
     }
-    if (requestBody.isArray()) {
-      for (JsonNode node : requestBody) {
-        requests.add(treeToRequest(node));
+    for (String preference : prefer.split("[,;]")) {
+      if (RETURN_MINIMAL.equalsIgnoreCase(preference.replace(" ", ""))) {
+        return true;
       }
-      return requests;
     }
-    if (requestBody.isObject()) {
-      requests.add(treeToRequest(requestBody));
-      return requests;
+    return false;
+  }
+
+  private Long expectedVersion(Long id, String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank()) {
+      return null;
+    }
+    String prefix = "\"" + id + "-";
+    for (String tag : ifMatch.split(",")) {
+      String value = tag.trim();
+      if ("*".equals(value)) {
+        return null;
+      }
+      if (value.startsWith(prefix) && value.endsWith("\"") && value.length() > prefix.length() + 1) {
+        String version = value.substring(prefix.length(), value.length() - 1).replaceFirst("-(smile|cbor)$", "");
+        try {
+          return Long.valueOf(version);
+        } catch (NumberFormatException ex) {
+          break;
+        }
+      }
     }
-    throw new IllegalArgumentException("Request body must be an object or array");
+    throw new EmployeeVersionMismatchException(id);
   }
 
-  private EmployeeCreateRequest treeToRequest(JsonNode node) {
+  private String collectionEtag(WebRequest request) {
+    MediaType format = negotiatedFormatOf(request);
+    String variant = MediaType.APPLICATION_JSON.equals(format) ? "" : "-" + variantOf(format);
+    return "\"c-" + employeeService.changeStamp() + variant + "\"";
+  }
+
+  private byte[] serialize(Employee employee) {
     try {
-      return objectMapper.treeToValue(node, EmployeeCreateRequest.class);
+      return responseWriter.writeValueAsBytes(EmployeeMapper.toResponse(employee));
     } catch (JsonProcessingException ex) {
-      throw new IllegalArgumentException("Invalid request payload", ex);
+      throw new IllegalStateException("Could not serialize employee " + employee.getId(), ex);
+    }
+  }
+
+  private void writeLine(ObjectWriter writer, JsonGenerator generator, EmployeeResponse response) {
+    try {
+      writer.writeValue(generator, response);
+      generator.writeRaw('\n');
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private void writeRow(EmployeeCsvWriter writer, Employee employee) {
+    try {
+      writer.write(employee);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
     }
   }
 
@@ -205,8 +700,4 @@ public class EmployeeController {
       }
     }
   }
-
-  private String valueOrEmpty(String value) {
-    return value == null ? "" : value;
-  }
 }
@@ -0,0 +1,240 @@
+package com.arriaga.invex.employeeservice.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public final class EmployeeCsvReader {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final byte COMMA = ',';
+  private static final byte QUOTE = '"';
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+
+  private final InputStream input;
+  private byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean endOfInput;
+  private int[] starts = new int[16];
+  private int[] ends = new int[16];
+  private boolean[] escaped = new boolean[16];
+  private int fieldCount;
+  private int line;
+  private int nextLine = 1;
+
+  public EmployeeCsvReader(InputStream input) {
+    this.input = input;
+  }
+
+  public boolean next() throws IOException {
+    while (true) {
+      if (position == limit && !fill()) {
+        return false;
+      }
+      int end = tokenize(position);
+      if (end >= 0) {
+        position = end;
+        if (fieldCount == 1 && starts[0] == ends[0]) {
+          continue;
+        }
+        return true;
+      }
+      if (endOfInput) {
+        throw new EOFException("Unterminated quoted field at line " + nextLine);
+      }
+      fill();
+    }
+  }
+
+  public int line() {
+    return line;
+  }
+
+  public int fieldCount() {
+    return fieldCount;
+  }
+
+  public boolean isBlank(int index) {
+    return index >= fieldCount || starts[index] == ends[index];
+  }
+
+  public String text(int index) {
+    if (isBlank(index)) {
+      return null;
+    }
+    String value = new String(buffer, starts[index], ends[index] - starts[index], StandardCharsets.UTF_8);
+    return escaped[index] ? value.replace("\"\"", "\"") : value;
+  }
+
+  public Integer integer(int index) {
+    if (isBlank(index)) {
+      return null;
+    }
+    int from = starts[index];
+    int to = ends[index];
+    boolean negative = buffer[from] == '-';
+    if (negative) {
+      from++;
+    }
+    if (from == to || to - from > 9) {
+      throw new NumberFormatException(text(index));
+    }
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      int digit = buffer[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException(text(index));
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  public Boolean bool(int index) {
+    if (isBlank(index)) {
+      return null;
+    }
+    if (matches(index, "true")) {
+      return Boolean.TRUE;
+    }
+    if (matches(index, "false")) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException(text(index));
+  }
+
+  public LocalDate date(int index) {
+    if (isBlank(index)) {
+      return null;
+    }
+    int from = starts[index];
+    if (ends[index] - from != 10 || buffer[from + 2] != '-' || buffer[from + 5] != '-') {
+      throw new DateTimeException(text(index));
+    }
+    return LocalDate.of(digits(from + 6, 4, index), digits(from + 3, 2, index), digits(from, 2, index));
+  }
+
+  private int tokenize(int from) {
+    int fields = 0;
+    int lines = 0;
+    int i = from;
+    while (true) {
+      ensureFieldCapacity(fields);
+      boolean quoted = i < limit && buffer[i] == QUOTE;
+      boolean hasEscapes = false;
+      int start;
+      int end;
+      if (quoted) {
+        start = ++i;
+        while (true) {
+          if (i >= limit) {
+            return -1;
+          }
+          if (buffer[i] == QUOTE) {
+            if (i + 1 >= limit && !endOfInput) {
+              return -1;
+            }
+            if (i + 1 < limit && buffer[i + 1] == QUOTE) {
+              hasEscapes = true;
+              i += 2;
+              continue;
+            }
+            break;
+          }
+          if (buffer[i] == LF) {
+            lines++;
+          }
+          i++;
+        }
+        end = i++;
+        while (i < limit && buffer[i] != COMMA && buffer[i] != LF) {
+          i++;
+        }
+      } else {
+        start = i;
+        while (i < limit && buffer[i] != COMMA && buffer[i] != LF) {
+          i++;
+        }
+        end = i;
+      }
+      if (i >= limit && !endOfInput) {
+        return -1;
+      }
+      if (!quoted && end > start && buffer[end - 1] == CR && (i >= limit || buffer[i] == LF)) {
+        end--;
+      }
+      starts[fields] = start;
+      ends[fields] = end;
+      escaped[fields] = hasEscapes;
+      fields++;
+      if (i < limit && buffer[i] == COMMA) {
+        i++;
+        continue;
+      }
+      fieldCount = fields;
+      line = nextLine;
+      nextLine += lines + 1;
+      return i < limit ? i + 1 : i;
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (endOfInput) {
+      return false;
+    }
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      position = 0;
+    } else if (limit == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    int read = input.read(buffer, limit, buffer.length - limit);
+    if (read < 0) {
+      endOfInput = true;
+      return limit > position;
+    }
+    limit += read;
+    return true;
+  }
+
+  private void ensureFieldCapacity(int fields) {
+    if (fields == starts.length) {
+      starts = Arrays.copyOf(starts, fields * 2);
+      ends = Arrays.copyOf(ends, fields * 2);
+      escaped = Arrays.copyOf(escaped, fields * 2);
+    }
+  }
+
+  private boolean matches(int index, String literal) {
+    int from = starts[index];
+    if (ends[index] - from != literal.length()) {
+      return false;
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if ((buffer[from + i] | 0x20) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int digits(int from, int length, int index) {
+    int value = 0;
+    for (int i = from; i < from + length; i++) {
+      int digit = buffer[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new DateTimeException(text(index));
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,185 @@
+package com.arriaga.invex.employeeservice.api;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeField;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public final class EmployeeCsvWriter {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final int MAX_NUMBER_LENGTH = 20;
+  private static final int MAX_INSTANT_LENGTH = 30;
+
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+
+  public EmployeeCsvWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  public void writeHeader() throws IOException {
+    EmployeeField[] fields = EmployeeField.values();
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) {
+        put((byte) ',');
+      }
+      writeText(fields[i].key());
+    }
+    put((byte) '\n');
+  }
+
+  public void write(Employee employee) throws IOException {
+    writeNumber(employee.getId());
+    put((byte) ',');
+    writeText(employee.getFirstName());
+    put((byte) ',');
+    writeText(employee.getMiddleName());
+    put((byte) ',');
+    writeText(employee.getLastName());
+    put((byte) ',');
+    writeText(employee.getSecondLastName());
+    put((byte) ',');
+    writeNumber(employee.getAge());
+    put((byte) ',');
+    writeText(employee.getSex());
+    put((byte) ',');
+    writeDate(employee.getBirthDate());
+    put((byte) ',');
+    writeText(employee.getPosition());
+    put((byte) ',');
+    writeInstant(employee.getCreatedAt());
+    put((byte) ',');
+    writeText(employee.getActive() == null ? null : employee.getActive().toString());
+    put((byte) '\n');
+  }
+
+  public void flush() throws IOException {
+    output.write(buffer, 0, position);
+    position = 0;
+    output.flush();
+  }
+
+  private void writeNumber(Number value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    ensureCapacity(MAX_NUMBER_LENGTH);
+    long number = value.longValue();
+    if (number < 0) {
+      buffer[position++] = '-';
+      number = -number;
+    }
+    int start = position;
+    do {
+      buffer[position++] = (byte) ('0' + number % 10);
+      number /= 10;
+    } while (number > 0);
+    for (int left = start, right = position - 1; left < right; left++, right--) {
+      byte digit = buffer[left];
+      buffer[left] = buffer[right];
+      buffer[right] = digit;
+    }
+  }
+
+  private void writeDate(LocalDate date) throws IOException {
+    if (date == null) {
+      return;
+    }
+    ensureCapacity(10);
+    putDigits(date.getDayOfMonth(), 2);
+    buffer[position++] = '-';
+    putDigits(date.getMonthValue(), 2);
+    buffer[position++] = '-';
+    putDigits(date.getYear(), 4);
+  }
+
+  private void writeInstant(Instant instant) throws IOException {
+    if (instant == null) {
+      return;
+    }
+    LocalDateTime time = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), 0, ZoneOffset.UTC);
+    if (time.getYear() < 0 || time.getYear() > 9999) {
+      writeText(instant.toString());
+      return;
+    }
+    ensureCapacity(MAX_INSTANT_LENGTH);
+    putDigits(time.getYear(), 4);
+    buffer[position++] = '-';
+    putDigits(time.getMonthValue(), 2);
+    buffer[position++] = '-';
+    putDigits(time.getDayOfMonth(), 2);
+    buffer[position++] = 'T';
+    putDigits(time.getHour(), 2);
+    buffer[position++] = ':';
+    putDigits(time.getMinute(), 2);
+    buffer[position++] = ':';
+    putDigits(time.getSecond(), 2);
+    int nanos = instant.getNano();
+    if (nanos > 0) {
+      buffer[position++] = '.';
+      if (nanos % 1_000_000 == 0) {
+        putDigits(nanos / 1_000_000, 3);
+      } else if (nanos % 1_000 == 0) {
+        putDigits(nanos / 1_000, 6);
+      } else {
+        putDigits(nanos, 9);
+      }
+    }
+    buffer[position++] = 'Z';
+  }
+
+  private void writeText(String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    boolean plain = value.length() <= buffer.length;
+    for (int i = 0; i < value.length() && plain; i++) {
+      char c = value.charAt(i);
+      plain = c < 0x80 && c != ',' && c != '"' && c != '\r' && c != '\n';
+    }
+    if (plain) {
+      ensureCapacity(value.length());
+      for (int i = 0; i < value.length(); i++) {
+        buffer[position++] = (byte) value.charAt(i);
+      }
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    put((byte) '"');
+    for (byte b : bytes) {
+      if (b == '"') {
+        put((byte) '"');
+      }
+      put(b);
+    }
+    put((byte) '"');
+  }
+
+  private void putDigits(int value, int width) {
+    for (int i = position + width - 1; i >= position; i--) {
+      buffer[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    position += width;
+  }
+
+  private void put(byte b) throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = b;
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (buffer.length - position < length) {
+      output.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.arriaga.invex.employeeservice.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class EmployeeCursor {
+
+  private static final String PREFIX = "id:";
+
+  private EmployeeCursor() {
+  }
+
+  public static String encode(Long afterId) {
+    if (afterId == null) {
+      return null;
+    }
+    byte[] raw = (PREFIX + afterId).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+  }
+
+  public static Long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      if (!raw.startsWith(PREFIX)) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      long id = Long.parseLong(raw.substring(PREFIX.length()));
+      if (id < 0) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return id;
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid cursor", ex);
+    }
+  }
+}
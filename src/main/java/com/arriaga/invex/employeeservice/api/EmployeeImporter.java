@@ -0,0 +1,233 @@
+package com.arriaga.invex.employeeservice.api;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportError;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeField;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeImporter {
+
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+  private final EmployeeService employeeService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final int chunkSize;
+
+  public EmployeeImporter(
+      EmployeeService employeeService,
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${employee.import.chunk-size:500}") int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("employee.import.chunk-size must be positive");
+    }
+    this.employeeService = employeeService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+  }
+
+  public EmployeeImportResponse importJson(InputStream body) throws IOException {
+    ImportRun run = new ImportRun();
+    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_ARRAY) {
+        token = parser.nextToken();
+      } else if (token != null && token != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Request body must be an object or array");
+      }
+      while (token != null && token != JsonToken.END_ARRAY) {
+        accept(run, parser, token);
+        token = parser.nextToken();
+      }
+    } catch (JsonParseException ex) {
+      run.fail(run.received, List.of("Malformed JSON at line " + ex.getLocation().getLineNr()
+          + ", column " + ex.getLocation().getColumnNr() + "; import stopped"));
+    }
+    flush(run);
+    return run.toResponse();
+  }
+
+  public EmployeeImportResponse importCsv(InputStream body) throws IOException {
+    ImportRun run = new ImportRun();
+    EmployeeCsvReader reader = new EmployeeCsvReader(body);
+    try {
+      if (reader.next()) {
+        EmployeeField[] columns = csvColumns(reader);
+        while (reader.next()) {
+          acceptCsvRow(run, reader, columns);
+        }
+      }
+    } catch (EOFException ex) {
+      run.fail(run.received, List.of("Malformed CSV: " + ex.getMessage() + "; import stopped"));
+    }
+    flush(run);
+    return run.toResponse();
+  }
+
+  private void accept(ImportRun run, JsonParser parser, JsonToken token) throws IOException {
+    int index = run.received;
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      run.received++;
+      run.fail(index, List.of("Expected an employee object"));
+      return;
+    }
+    JsonStreamContext enclosing = parser.getParsingContext().getParent();
+    EmployeeCreateRequest request;
+    try {
+      request = objectMapper.readValue(parser, EmployeeCreateRequest.class);
+    } catch (JsonMappingException ex) {
+      while (parser.getParsingContext() != enclosing && parser.nextToken() != null) {
+        parser.skipChildren();
+      }
+      run.received++;
+      run.fail(index, List.of(describe(ex)));
+      return;
+    }
+    run.received++;
+    accept(run, index, request);
+  }
+
+  private void acceptCsvRow(ImportRun run, EmployeeCsvReader reader, EmployeeField[] columns) {
+    int index = run.received++;
+    if (reader.fieldCount() > columns.length) {
+      run.fail(index, List.of("Expected at most " + columns.length + " fields at line " + reader.line()));
+      return;
+    }
+    EmployeeCreateRequest request = new EmployeeCreateRequest();
+    List<String> errors = new ArrayList<>();
+    for (int i = 0; i < columns.length; i++) {
+      try {
+        switch (columns[i]) {
+          case FIRST_NAME -> request.setFirstName(reader.text(i));
+          case MIDDLE_NAME -> request.setMiddleName(reader.text(i));
+          case LAST_NAME -> request.setLastName(reader.text(i));
+          case SECOND_LAST_NAME -> request.setSecondLastName(reader.text(i));
+          case AGE -> request.setAge(reader.integer(i));
+          case SEX -> request.setSex(reader.text(i));
+          case BIRTH_DATE -> request.setBirthDate(reader.date(i));
+          case POSITION -> request.setPosition(reader.text(i));
+          case ACTIVE -> request.setActive(reader.bool(i));
+          default -> {
+          }
+        }
+      } catch (IllegalArgumentException | DateTimeException ex) {
+        errors.add(columns[i].key() + ": invalid value");
+      }
+    }
+    if (!errors.isEmpty()) {
+      run.fail(index, errors);
+      return;
+    }
+    accept(run, index, request);
+  }
+
+  private void accept(ImportRun run, int index, EmployeeCreateRequest request) {
+    List<String> violations = validator.validate(request).stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .toList();
+    if (!violations.isEmpty()) {
+      run.fail(index, violations);
+      return;
+    }
+    run.chunk.add(EmployeeMapper.toEntity(request));
+    run.chunkIndexes.add(index);
+    if (run.chunk.size() >= chunkSize) {
+      flush(run);
+    }
+  }
+
+  private void flush(ImportRun run) {
+    if (run.chunk.isEmpty()) {
+      return;
+    }
+    try {
+      run.imported += employeeService.importChunk(run.chunk).size();
+    } catch (DataAccessException ex) {
+      for (Integer index : run.chunkIndexes) {
+        run.fail(index, List.of("Employee could not be saved"));
+      }
+    }
+    run.chunk = new ArrayList<>(chunkSize);
+    run.chunkIndexes.clear();
+  }
+
+  private EmployeeField[] csvColumns(EmployeeCsvReader reader) {
+    EmployeeField[] columns = new EmployeeField[reader.fieldCount()];
+    Set<EmployeeField> seen = EnumSet.noneOf(EmployeeField.class);
+    for (int i = 0; i < columns.length; i++) {
+      String name = reader.text(i);
+      columns[i] = EmployeeField.fromKey(name == null ? "" : name.replace(BYTE_ORDER_MARK, ""));
+      if (!seen.add(columns[i])) {
+        throw new IllegalArgumentException("Duplicate CSV column: " + columns[i].key());
+      }
+    }
+    return columns;
+  }
+
+  private String describe(JsonMappingException ex) {
+    String path = ex.getPath().stream()
+        .map(JsonMappingException.Reference::getFieldName)
+        .filter(Objects::nonNull)
+        .collect(Collectors.joining("."));
+    return path.isEmpty() ? "Invalid employee payload" : path + ": invalid value";
+  }
+
+  private static final class ImportRun {
+
+    private int received;
+    private int imported;
+    private int failed;
+    private List<Employee> chunk = new ArrayList<>();
+    private final List<Integer> chunkIndexes = new ArrayList<>();
+    private final List<EmployeeImportError> errors = new ArrayList<>();
+
+    private void fail(int index, List<String> details) {
+      failed++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        EmployeeImportError error = new EmployeeImportError();
+        error.setIndex(index);
+        error.setDetails(details);
+        errors.add(error);
+      }
+    }
+
+    private EmployeeImportResponse toResponse() {
+      EmployeeImportResponse response = new EmployeeImportResponse();
+      response.setReceived(received);
+      response.setImported(imported);
+      response.setFailed(failed);
+      response.setErrors(errors);
+      response.setErrorsTruncated(failed > errors.size());
+      return response;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.arriaga.invex.employeeservice.api;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeChangeListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeJsonCache implements EmployeeChangeListener, MeterBinder {
+
+  static final String CACHE_NAME = "employee-json";
+
+  private final Cache<Long, Entry> cache;
+
+  public EmployeeJsonCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  public byte[] get(Employee employee, Function<Employee, byte[]> serializer) {
+    Long version = employee.getVersion();
+    if (version == null) {
+      return serializer.apply(employee);
+    }
+    Entry entry = cache.getIfPresent(employee.getId());
+    if (entry != null && entry.version == version) {
+      return entry.body;
+    }
+    byte[] body = serializer.apply(employee);
+    cache.put(employee.getId(), new Entry(version, body));
+    return body;
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public void employeeSaved(Employee employee) {
+    cache.invalidate(employee.getId());
+  }
+
+  @Override
+  public void employeeUpdated(Long id) {
+    cache.invalidate(id);
+  }
+
+  @Override
+  public void employeeDeleted(Long id) {
+    cache.invalidate(id);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private static final class Entry {
+
+    private final long version;
+    private final byte[] body;
+
+    private Entry(long version, byte[] body) {
+      this.version = version;
+      this.body = body;
+    }
+  }
+}
@@ -1,12 +1,27 @@
 package com.arriaga.invex.employeeservice.api;
 
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResultResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeUpdateRequest;
+import com.arriaga.invex.employeeservice.api.dto.HeadcountGroupResponse;
+import com.arriaga.invex.employeeservice.api.dto.NameSuggestionResponse;
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.search.NameSuggestion;
+import com.arriaga.invex.employeeservice.service.EmployeeField;
+import com.arriaga.invex.employeeservice.service.HeadcountGroup;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public final class EmployeeMapper {
 
+  private static final DateTimeFormatter BIRTH_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
   private EmployeeMapper() {
   }
 
@@ -69,4 +84,50 @@ public final class EmployeeMapper {
     response.setActive(employee.getActive());
     return response;
   }
+
+  public static NameSuggestionResponse toResponse(NameSuggestion suggestion) {
+    NameSuggestionResponse response = new NameSuggestionResponse();
+    response.setValue(suggestion.getToken());
+    response.setCount(suggestion.getCount());
+    return response;
+  }
+
+  public static HeadcountGroupResponse toResponse(HeadcountGroup group) {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    group.getKeys().forEach((dimension, value) -> keys.put(dimension.key(), value));
+    HeadcountGroupResponse response = new HeadcountGroupResponse();
+    response.setGroup(keys);
+    response.setCount(group.getCount());
+    response.setAverageAge(group.getAverageAge());
+    return response;
+  }
+
+  public static EmployeeBulkJobResponse toResponse(EmployeeBulkJob job) {
+    EmployeeBulkJobResponse response = new EmployeeBulkJobResponse();
+    response.setId(job.getId());
+    response.setStatus(job.getStatus().name());
+    response.setTotal(job.getTotal());
+    response.setProcessed(job.getProcessed());
+    response.setSucceeded(job.getSucceeded());
+    response.setFailed(job.getFailed());
+    response.setCreatedAt(job.getCreatedAt());
+    response.setUpdatedAt(job.getUpdatedAt());
+    return response;
+  }
+
+  public static EmployeeBulkJobResultResponse toResponse(EmployeeBulkJobResult result) {
+    EmployeeBulkJobResultResponse response = new EmployeeBulkJobResultResponse();
+    response.setIndex(result.getIndex());
+    response.setEmployeeId(result.getEmployeeId());
+    response.setErrors(result.getErrors());
+    return response;
+  }
+
+  public static Map<String, Object> toSparseResponse(Map<String, Object> row) {
+    Object birthDate = row.get(EmployeeField.BIRTH_DATE.key());
+    if (birthDate instanceof LocalDate date) {
+      row.put(EmployeeField.BIRTH_DATE.key(), BIRTH_DATE_FORMAT.format(date));
+    }
+    return row;
+  }
 }
@@ -0,0 +1,88 @@
+package com.arriaga.invex.employeeservice.api;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import com.arriaga.invex.employeeservice.persistence.EmployeeReadRepository;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class EmployeeResponseQueries {
+
+  private static final RowMapper<EmployeeResponse> ROW_MAPPER = EmployeeResponseQueries::mapRow;
+
+  private final EmployeeReadRepository readRepository;
+  private final EmployeeService employeeService;
+
+  public EmployeeResponseQueries(EmployeeReadRepository readRepository, EmployeeService employeeService) {
+    this.readRepository = readRepository;
+    this.employeeService = employeeService;
+  }
+
+  @Transactional(readOnly = true)
+  public List<EmployeeResponse> findAll(EmployeeFilter filter) {
+    validate(filter);
+    return readRepository.findAll(filter, ROW_MAPPER);
+  }
+
+  @Transactional(readOnly = true)
+  public EmployeePage<EmployeeResponse> findPage(EmployeeFilter filter, Long afterId, int limit) {
+    validate(filter);
+    long from = afterId == null ? 0L : afterId;
+    List<EmployeeResponse> rows = readRepository.findPage(filter, from, limit + 1, ROW_MAPPER);
+    if (rows.size() <= limit) {
+      return new EmployeePage<>(rows, null);
+    }
+    List<EmployeeResponse> items = rows.subList(0, limit);
+    return new EmployeePage<>(items, items.get(limit - 1).getId());
+  }
+
+  @Transactional(readOnly = true)
+  public List<EmployeeResponse> searchByName(String name, int limit, boolean fuzzy) {
+    List<Long> ids = employeeService.searchIdsByName(name, limit, fuzzy);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Integer> positions = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      positions.put(ids.get(i), i);
+    }
+    return readRepository.findAllById(ids, ROW_MAPPER).stream()
+        .sorted(Comparator.comparing(response -> positions.get(response.getId())))
+        .toList();
+  }
+
+  private void validate(EmployeeFilter filter) {
+    if (filter != null) {
+      filter.validate();
+    }
+  }
+
+  private static EmployeeResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+    EmployeeResponse response = new EmployeeResponse();
+    response.setId(rs.getLong("id"));
+    response.setFirstName(rs.getString("first_name"));
+    response.setMiddleName(rs.getString("middle_name"));
+    response.setLastName(rs.getString("last_name"));
+    response.setSecondLastName(rs.getString("second_last_name"));
+    response.setAge(rs.getObject("age", Integer.class));
+    response.setSex(rs.getString("sex"));
+    response.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+    response.setPosition(rs.getString("position"));
+    Timestamp createdAt = rs.getTimestamp("created_at");
+    response.setCreatedAt(createdAt == null ? null : createdAt.toInstant());
+    response.setActive(rs.getObject("active", Boolean.class));
+    return response;
+  }
+}
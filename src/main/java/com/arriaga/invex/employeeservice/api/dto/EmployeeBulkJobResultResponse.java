@@ -0,0 +1,34 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+
+public class EmployeeBulkJobResultResponse {
+
+  private int index;
+  private Long employeeId;
+  private List<String> errors;
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public Long getEmployeeId() {
+    return employeeId;
+  }
+
+  public void setEmployeeId(Long employeeId) {
+    this.employeeId = employeeId;
+  }
+
+  public List<String> getErrors() {
+    return errors;
+  }
+
+  public void setErrors(List<String> errors) {
+    this.errors = errors;
+  }
+}
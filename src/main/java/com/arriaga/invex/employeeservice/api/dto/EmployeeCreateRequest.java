@@ -1,6 +1,7 @@
 package com.arriaga.invex.employeeservice.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.LocalDate;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
@@ -9,6 +10,8 @@ import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Past;
 import javax.validation.constraints.Size;
 
+@JsonPropertyOrder({"firstName", "middleName", "lastName", "secondLastName", "age", "sex", "birthDate", "position",
+    "active"})
 public class EmployeeCreateRequest {
 
   @NotBlank
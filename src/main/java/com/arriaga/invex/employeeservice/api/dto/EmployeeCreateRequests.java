@@ -0,0 +1,20 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@JsonDeserialize(using = EmployeeCreateRequestsDeserializer.class)
+@Schema(oneOf = {EmployeeCreateRequest.class, EmployeeCreateRequest[].class})
+public class EmployeeCreateRequests {
+
+  private List<EmployeeCreateRequest> items;
+
+  public List<EmployeeCreateRequest> getItems() {
+    return items;
+  }
+
+  public void setItems(List<EmployeeCreateRequest> items) {
+    this.items = items;
+  }
+}
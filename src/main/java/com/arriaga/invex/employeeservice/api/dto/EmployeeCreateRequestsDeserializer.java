@@ -0,0 +1,51 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeCreateRequestsDeserializer extends StdDeserializer<EmployeeCreateRequests> {
+
+  public EmployeeCreateRequestsDeserializer() {
+    super(EmployeeCreateRequests.class);
+  }
+
+  @Override
+  public EmployeeCreateRequests deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    List<EmployeeCreateRequest> items = new ArrayList<>();
+    if (parser.isExpectedStartArrayToken()) {
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        items.add(readItem(parser, context));
+      }
+    } else if (parser.hasToken(JsonToken.START_OBJECT)) {
+      items.add(readItem(parser, context));
+    } else {
+      throw new IllegalArgumentException("Request body must be an object or array");
+    }
+    return of(items);
+  }
+
+  @Override
+  public EmployeeCreateRequests getNullValue(DeserializationContext context) {
+    return of(new ArrayList<>());
+  }
+
+  private EmployeeCreateRequest readItem(JsonParser parser, DeserializationContext context) throws IOException {
+    try {
+      return context.readValue(parser, EmployeeCreateRequest.class);
+    } catch (JsonMappingException ex) {
+      throw new IllegalArgumentException("Invalid request payload", ex);
+    }
+  }
+
+  private static EmployeeCreateRequests of(List<EmployeeCreateRequest> items) {
+    EmployeeCreateRequests requests = new EmployeeCreateRequests();
+    requests.setItems(items);
+    return requests;
+  }
+}
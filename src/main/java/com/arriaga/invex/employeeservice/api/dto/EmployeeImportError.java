@@ -0,0 +1,25 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+
+public class EmployeeImportError {
+
+  private int index;
+  private List<String> details;
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public List<String> getDetails() {
+    return details;
+  }
+
+  public void setDetails(List<String> details) {
+    this.details = details;
+  }
+}
@@ -0,0 +1,52 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+
+public class EmployeeImportResponse {
+
+  private int received;
+  private int imported;
+  private int failed;
+  private List<EmployeeImportError> errors;
+  private boolean errorsTruncated;
+
+  public int getReceived() {
+    return received;
+  }
+
+  public void setReceived(int received) {
+    this.received = received;
+  }
+
+  public int getImported() {
+    return imported;
+  }
+
+  public void setImported(int imported) {
+    this.imported = imported;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<EmployeeImportError> getErrors() {
+    return errors;
+  }
+
+  public void setErrors(List<EmployeeImportError> errors) {
+    this.errors = errors;
+  }
+
+  public boolean isErrorsTruncated() {
+    return errorsTruncated;
+  }
+
+  public void setErrorsTruncated(boolean errorsTruncated) {
+    this.errorsTruncated = errorsTruncated;
+  }
+}
@@ -0,0 +1,19 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+public class EmployeeLookupRequest {
+
+  @NotEmpty
+  private List<@NotNull Long> ids;
+
+  public List<Long> getIds() {
+    return ids;
+  }
+
+  public void setIds(List<Long> ids) {
+    this.ids = ids;
+  }
+}
@@ -0,0 +1,25 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+
+public class EmployeeLookupResponse {
+
+  private List<EmployeeResponse> items;
+  private List<Long> missingIds;
+
+  public List<EmployeeResponse> getItems() {
+    return items;
+  }
+
+  public void setItems(List<EmployeeResponse> items) {
+    this.items = items;
+  }
+
+  public List<Long> getMissingIds() {
+    return missingIds;
+  }
+
+  public void setMissingIds(List<Long> missingIds) {
+    this.missingIds = missingIds;
+  }
+}
@@ -0,0 +1,25 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.List;
+
+public class EmployeePageResponse<T> {
+
+  private List<T> items;
+  private String nextCursor;
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
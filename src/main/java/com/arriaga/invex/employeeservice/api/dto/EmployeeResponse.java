@@ -1,9 +1,12 @@
 package com.arriaga.invex.employeeservice.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.Instant;
 import java.time.LocalDate;
 
+@JsonPropertyOrder({"id", "firstName", "middleName", "lastName", "secondLastName", "age", "sex", "birthDate",
+    "position", "createdAt", "active"})
 public class EmployeeResponse {
 
   private Long id;
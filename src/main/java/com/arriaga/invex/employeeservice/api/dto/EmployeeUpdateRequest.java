@@ -1,12 +1,15 @@
 package com.arriaga.invex.employeeservice.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.LocalDate;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Past;
 import javax.validation.constraints.Size;
 
+@JsonPropertyOrder({"firstName", "middleName", "lastName", "secondLastName", "age", "sex", "birthDate", "position",
+    "active"})
 public class EmployeeUpdateRequest {
 
   @Size(min = 1, max = 100)
@@ -0,0 +1,34 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import java.util.Map;
+
+public class HeadcountGroupResponse {
+
+  private Map<String, Object> group;
+  private Long count;
+  private Double averageAge;
+
+  public Map<String, Object> getGroup() {
+    return group;
+  }
+
+  public void setGroup(Map<String, Object> group) {
+    this.group = group;
+  }
+
+  public Long getCount() {
+    return count;
+  }
+
+  public void setCount(Long count) {
+    this.count = count;
+  }
+
+  public Double getAverageAge() {
+    return averageAge;
+  }
+
+  public void setAverageAge(Double averageAge) {
+    this.averageAge = averageAge;
+  }
+}
@@ -0,0 +1,23 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+public class NameSuggestionResponse {
+
+  private String value;
+  private Integer count;
+
+  public String getValue() {
+    return value;
+  }
+
+  public void setValue(String value) {
+    this.value = value;
+  }
+
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+}
@@ -0,0 +1,62 @@
+package com.arriaga.invex.employeeservice.cache;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeCache implements MeterBinder {
+
+  static final String CACHE_NAME = "employees";
+
+  private final Cache<Long, Employee> cache;
+
+  public EmployeeCache(
+      @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+      @Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+  }
+
+  public Employee get(Long id, Function<Long, Employee> loader) {
+    return cache.get(id, loader);
+  }
+
+  public Employee getIfPresent(Long id) {
+    return cache.getIfPresent(id);
+  }
+
+  public void put(Employee employee) {
+    if (employee.getId() != null) {
+      cache.put(employee.getId(), employee);
+    }
+  }
+
+  public void putAll(List<Employee> employees) {
+    employees.forEach(this::put);
+  }
+
+  public void evict(Long id) {
+    cache.invalidate(id);
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+}
@@ -0,0 +1,68 @@
+package com.arriaga.invex.employeeservice.datasource;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeChangeListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public class ReadYourWritesTracker implements EmployeeChangeListener {
+
+  static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.recentWriters = Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .build();
+  }
+
+  public void markWrite() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+    String subject = currentSubject();
+    if (subject != null) {
+      recentWriters.put(subject, Boolean.TRUE);
+    }
+  }
+
+  public boolean mustReadPrimary() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null
+        && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+      return true;
+    }
+    String subject = currentSubject();
+    return subject != null && recentWriters.getIfPresent(subject) != null;
+  }
+
+  @Override
+  public void employeeSaved(Employee employee) {
+    markWrite();
+  }
+
+  @Override
+  public void employeeUpdated(Long id) {
+    markWrite();
+  }
+
+  @Override
+  public void employeeDeleted(Long id) {
+    markWrite();
+  }
+
+  private String currentSubject() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,31 @@
+package com.arriaga.invex.employeeservice.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final ReadYourWritesTracker tracker;
+
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+    this.tracker = tracker;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !tracker.mustReadPrimary()) {
+      return Route.REPLICA;
+    }
+    return Route.PRIMARY;
+  }
+}
@@ -8,14 +8,19 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.Version;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "employees")
 public class Employee {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+  @TableGenerator(name = "employee_id", table = "employee_id_generator", pkColumnName = "sequence_name",
+      valueColumnName = "next_val", pkColumnValue = "employees", allocationSize = 50)
   private Long id;
 
   @Column(name = "first_name", nullable = false, length = 100)
@@ -46,9 +51,20 @@ public class Employee {
   @Column(name = "created_at", nullable = false, updatable = false)
   private Instant createdAt;
 
+  @UpdateTimestamp
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @Column(name = "active", nullable = false)
   private Boolean active;
 
+  @Column(name = "search_name", length = 403)
+  private String searchName;
+
   public Long getId() {
     return id;
   }
@@ -129,6 +145,22 @@ public class Employee {
     this.createdAt = createdAt;
   }
 
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
   public Boolean getActive() {
     return active;
   }
@@ -136,4 +168,12 @@ public class Employee {
   public void setActive(Boolean active) {
     this.active = active;
   }
+
+  public String getSearchName() {
+    return searchName;
+  }
+
+  public void setSearchName(String searchName) {
+    this.searchName = searchName;
+  }
 }
@@ -0,0 +1,66 @@
+package com.arriaga.invex.employeeservice.domain;
+
+import java.time.Instant;
+
+public class EmployeeBulkJob {
+
+  private final String id;
+  private final EmployeeBulkJobStatus status;
+  private final int total;
+  private final int processed;
+  private final int succeeded;
+  private final int failed;
+  private final Instant createdAt;
+  private final Instant updatedAt;
+
+  public EmployeeBulkJob(
+      String id,
+      EmployeeBulkJobStatus status,
+      int total,
+      int processed,
+      int succeeded,
+      int failed,
+      Instant createdAt,
+      Instant updatedAt) {
+    this.id = id;
+    this.status = status;
+    this.total = total;
+    this.processed = processed;
+    this.succeeded = succeeded;
+    this.failed = failed;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public EmployeeBulkJobStatus getStatus() {
+    return status;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public int getProcessed() {
+    return processed;
+  }
+
+  public int getSucceeded() {
+    return succeeded;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+}
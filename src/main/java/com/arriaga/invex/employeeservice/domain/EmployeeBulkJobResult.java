@@ -0,0 +1,28 @@
+package com.arriaga.invex.employeeservice.domain;
+
+import java.util.List;
+
+public class EmployeeBulkJobResult {
+
+  private final int index;
+  private final Long employeeId;
+  private final List<String> errors;
+
+  public EmployeeBulkJobResult(int index, Long employeeId, List<String> errors) {
+    this.index = index;
+    this.employeeId = employeeId;
+    this.errors = errors;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public Long getEmployeeId() {
+    return employeeId;
+  }
+
+  public List<String> getErrors() {
+    return errors;
+  }
+}
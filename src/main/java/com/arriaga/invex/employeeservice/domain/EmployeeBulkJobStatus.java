@@ -0,0 +1,12 @@
+package com.arriaga.invex.employeeservice.domain;
+
+public enum EmployeeBulkJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED;
+
+  public boolean isFinished() {
+    return this == COMPLETED || this == FAILED;
+  }
+}
@@ -0,0 +1,75 @@
+package com.arriaga.invex.employeeservice.domain;
+
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public class EmployeeFilter {
+
+  private String position;
+  private Boolean active;
+  private Integer minAge;
+  private Integer maxAge;
+
+  @DateTimeFormat(pattern = "dd-MM-yyyy")
+  private LocalDate bornFrom;
+
+  @DateTimeFormat(pattern = "dd-MM-yyyy")
+  private LocalDate bornTo;
+
+  public String getPosition() {
+    return position;
+  }
+
+  public void setPosition(String position) {
+    this.position = position;
+  }
+
+  public Boolean getActive() {
+    return active;
+  }
+
+  public void setActive(Boolean active) {
+    this.active = active;
+  }
+
+  public Integer getMinAge() {
+    return minAge;
+  }
+
+  public void setMinAge(Integer minAge) {
+    this.minAge = minAge;
+  }
+
+  public Integer getMaxAge() {
+    return maxAge;
+  }
+
+  public void setMaxAge(Integer maxAge) {
+    this.maxAge = maxAge;
+  }
+
+  public LocalDate getBornFrom() {
+    return bornFrom;
+  }
+
+  public void setBornFrom(LocalDate bornFrom) {
+    this.bornFrom = bornFrom;
+  }
+
+  public LocalDate getBornTo() {
+    return bornTo;
+  }
+
+  public void setBornTo(LocalDate bornTo) {
+    this.bornTo = bornTo;
+  }
+
+  public void validate() {
+    if (minAge != null && maxAge != null && minAge > maxAge) {
+      throw new IllegalArgumentException("minAge must not be greater than maxAge");
+    }
+    if (bornFrom != null && bornTo != null && bornFrom.isAfter(bornTo)) {
+      throw new IllegalArgumentException("bornFrom must not be after bornTo");
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.arriaga.invex.employeeservice.exception;
+
+public class EmployeeBulkJobNotFoundException extends RuntimeException {
+
+  public EmployeeBulkJobNotFoundException(String id) {
+    super("Bulk job not found: " + id);
+  }
+}
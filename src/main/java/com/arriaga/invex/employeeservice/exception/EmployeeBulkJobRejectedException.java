@@ -0,0 +1,8 @@
+package com.arriaga.invex.employeeservice.exception;
+
+public class EmployeeBulkJobRejectedException extends RuntimeException {
+
+  public EmployeeBulkJobRejectedException() {
+    super("Bulk job queue is full; retry later");
+  }
+}
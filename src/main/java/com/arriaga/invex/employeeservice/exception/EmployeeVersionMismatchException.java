@@ -0,0 +1,8 @@
+package com.arriaga.invex.employeeservice.exception;
+
+public class EmployeeVersionMismatchException extends RuntimeException {
+
+  public EmployeeVersionMismatchException(Long id) {
+    super("Employee " + id + " does not match the If-Match version");
+  }
+}
@@ -4,5 +4,8 @@ public enum ErrorCode {
   VALIDATION_ERROR,
   NOT_FOUND,
   BAD_REQUEST,
+  CONFLICT,
+  PRECONDITION_FAILED,
+  TOO_MANY_REQUESTS,
   INTERNAL_ERROR
 }
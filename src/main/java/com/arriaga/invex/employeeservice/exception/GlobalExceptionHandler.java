@@ -9,6 +9,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
   private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+  private static final int BULK_JOB_RETRY_AFTER_SECONDS = 5;
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiErrorResponse> handleMethodArgumentNotValid(
@@ -64,6 +67,32 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
   }
 
+  @ExceptionHandler(EmployeeBulkJobNotFoundException.class)
+  public ResponseEntity<ApiErrorResponse> handleBulkJobNotFound(
+      EmployeeBulkJobNotFoundException ex,
+      HttpServletRequest request) {
+    ApiErrorResponse response = buildResponse(
+        request,
+        ErrorCode.NOT_FOUND,
+        ex.getMessage(),
+        List.of());
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+  }
+
+  @ExceptionHandler(EmployeeBulkJobRejectedException.class)
+  public ResponseEntity<ApiErrorResponse> handleBulkJobRejected(
+      EmployeeBulkJobRejectedException ex,
+      HttpServletRequest request) {
+    ApiErrorResponse response = buildResponse(
+        request,
+        ErrorCode.TOO_MANY_REQUESTS,
+        ex.getMessage(),
+        List.of());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(BULK_JOB_RETRY_AFTER_SECONDS))
+        .body(response);
+  }
+
   @ExceptionHandler(EmptyResultDataAccessException.class)
   public ResponseEntity<ApiErrorResponse> handleEmptyResult(
       EmptyResultDataAccessException ex,
@@ -76,6 +105,30 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
   }
 
+  @ExceptionHandler(EmployeeVersionMismatchException.class)
+  public ResponseEntity<ApiErrorResponse> handleVersionMismatch(
+      EmployeeVersionMismatchException ex,
+      HttpServletRequest request) {
+    ApiErrorResponse response = buildResponse(
+        request,
+        ErrorCode.PRECONDITION_FAILED,
+        ex.getMessage(),
+        List.of());
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException ex,
+      HttpServletRequest request) {
+    ApiErrorResponse response = buildResponse(
+        request,
+        ErrorCode.CONFLICT,
+        "Employee was modified concurrently",
+        List.of());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ApiErrorResponse> handleIllegalArgument(
       IllegalArgumentException ex,
@@ -0,0 +1,154 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class EmployeeBulkJobRepository {
+
+  private static final String ERROR_SEPARATOR = "\n";
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public EmployeeBulkJobRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public void insert(String id, int total, String payload, List<EmployeeBulkJobResult> rejected) {
+    jdbc.update("INSERT INTO employee_bulk_jobs (id, status, total, failed, payload) "
+            + "VALUES (:id, :status, :total, :failed, :payload)",
+        new MapSqlParameterSource("id", id)
+            .addValue("status", EmployeeBulkJobStatus.QUEUED.name())
+            .addValue("total", total)
+            .addValue("failed", rejected.size())
+            .addValue("payload", payload));
+    insertResults(id, rejected);
+  }
+
+  public void delete(String id) {
+    MapSqlParameterSource parameters = new MapSqlParameterSource("id", id);
+    jdbc.update("DELETE FROM employee_bulk_job_results WHERE job_id = :id", parameters);
+    jdbc.update("DELETE FROM employee_bulk_jobs WHERE id = :id", parameters);
+  }
+
+  public Optional<EmployeeBulkJob> findById(String id) {
+    return jdbc.query("SELECT id, status, total, processed, succeeded, failed, created_at, updated_at "
+            + "FROM employee_bulk_jobs WHERE id = :id",
+        new MapSqlParameterSource("id", id), EmployeeBulkJobRepository::mapJob).stream().findFirst();
+  }
+
+  public List<EmployeeBulkJobResult> findResults(String id, int afterIndex, int limit) {
+    return jdbc.query("SELECT row_index, employee_id, errors FROM employee_bulk_job_results "
+            + "WHERE job_id = :id AND row_index > :afterIndex ORDER BY row_index LIMIT :limit",
+        new MapSqlParameterSource("id", id)
+            .addValue("afterIndex", afterIndex)
+            .addValue("limit", limit),
+        EmployeeBulkJobRepository::mapResult);
+  }
+
+  public String findPayload(String id) {
+    List<String> payloads = jdbc.queryForList("SELECT payload FROM employee_bulk_jobs WHERE id = :id",
+        new MapSqlParameterSource("id", id), String.class);
+    return payloads.isEmpty() ? null : payloads.get(0);
+  }
+
+  public List<String> findClaimableIds() {
+    return jdbc.queryForList("SELECT id FROM employee_bulk_jobs WHERE status = :queued "
+            + "OR (status = :running AND (lease_expires_at IS NULL OR lease_expires_at < :now)) ORDER BY created_at",
+        new MapSqlParameterSource("now", Timestamp.from(Instant.now()))
+            .addValue("queued", EmployeeBulkJobStatus.QUEUED.name())
+            .addValue("running", EmployeeBulkJobStatus.RUNNING.name()),
+        String.class);
+  }
+
+  public boolean claim(String id, String owner, Duration lease) {
+    Instant now = Instant.now();
+    return jdbc.update("UPDATE employee_bulk_jobs SET status = :running, owner = :owner, "
+            + "lease_expires_at = :leaseExpiresAt, updated_at = CURRENT_TIMESTAMP WHERE id = :id "
+            + "AND (status = :queued OR (status = :running AND (lease_expires_at IS NULL OR lease_expires_at < :now)))",
+        new MapSqlParameterSource("id", id)
+            .addValue("owner", owner)
+            .addValue("leaseExpiresAt", Timestamp.from(now.plus(lease)))
+            .addValue("now", Timestamp.from(now))
+            .addValue("queued", EmployeeBulkJobStatus.QUEUED.name())
+            .addValue("running", EmployeeBulkJobStatus.RUNNING.name())) == 1;
+  }
+
+  public boolean finish(String id, String owner, EmployeeBulkJobStatus status) {
+    return jdbc.update("UPDATE employee_bulk_jobs SET status = :status, payload = NULL, owner = NULL, "
+            + "lease_expires_at = NULL, updated_at = CURRENT_TIMESTAMP WHERE id = :id AND owner = :owner",
+        new MapSqlParameterSource("id", id)
+            .addValue("owner", owner)
+            .addValue("status", status.name())) == 1;
+  }
+
+  public void release(String id, String owner) {
+    jdbc.update("UPDATE employee_bulk_jobs SET owner = NULL, lease_expires_at = NULL WHERE id = :id AND owner = :owner",
+        new MapSqlParameterSource("id", id).addValue("owner", owner));
+  }
+
+  public boolean recordChunk(
+      String id, String owner, Duration lease, int processed, List<EmployeeBulkJobResult> results) {
+    long succeeded = results.stream().filter(result -> result.getEmployeeId() != null).count();
+    int updated = jdbc.update("UPDATE employee_bulk_jobs SET processed = :processed, "
+            + "succeeded = succeeded + :succeeded, failed = failed + :failed, lease_expires_at = :leaseExpiresAt, "
+            + "updated_at = CURRENT_TIMESTAMP WHERE id = :id AND owner = :owner",
+        new MapSqlParameterSource("id", id)
+            .addValue("owner", owner)
+            .addValue("leaseExpiresAt", Timestamp.from(Instant.now().plus(lease)))
+            .addValue("processed", processed)
+            .addValue("succeeded", succeeded)
+            .addValue("failed", results.size() - succeeded));
+    if (updated == 0) {
+      return false;
+    }
+    insertResults(id, results);
+    return true;
+  }
+
+  private void insertResults(String id, List<EmployeeBulkJobResult> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] rows = results.stream()
+        .map(result -> new MapSqlParameterSource("jobId", id)
+            .addValue("rowIndex", result.getIndex())
+            .addValue("employeeId", result.getEmployeeId())
+            .addValue("errors", result.getErrors().isEmpty() ? null : String.join(ERROR_SEPARATOR, result.getErrors())))
+        .toArray(SqlParameterSource[]::new);
+    jdbc.batchUpdate("INSERT INTO employee_bulk_job_results (job_id, row_index, employee_id, errors) "
+        + "VALUES (:jobId, :rowIndex, :employeeId, :errors)", rows);
+  }
+
+  private static EmployeeBulkJob mapJob(ResultSet rs, int rowNum) throws SQLException {
+    return new EmployeeBulkJob(
+        rs.getString("id"),
+        EmployeeBulkJobStatus.valueOf(rs.getString("status")),
+        rs.getInt("total"),
+        rs.getInt("processed"),
+        rs.getInt("succeeded"),
+        rs.getInt("failed"),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getTimestamp("updated_at").toInstant());
+  }
+
+  private static EmployeeBulkJobResult mapResult(ResultSet rs, int rowNum) throws SQLException {
+    String errors = rs.getString("errors");
+    return new EmployeeBulkJobResult(
+        rs.getInt("row_index"),
+        rs.getObject("employee_id", Long.class),
+        errors == null ? List.of() : List.of(errors.split(ERROR_SEPARATOR)));
+  }
+}
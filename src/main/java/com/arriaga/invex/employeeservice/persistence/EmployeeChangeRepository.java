@@ -0,0 +1,28 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class EmployeeChangeRepository {
+
+  private static final MapSqlParameterSource COUNTER = new MapSqlParameterSource("id", 1);
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public EmployeeChangeRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public void increment() {
+    if (jdbc.update("UPDATE employee_change_counter SET changes = changes + 1 WHERE id = :id", COUNTER) != 1) {
+      throw new IllegalStateException("employee_change_counter row is missing");
+    }
+  }
+
+  public long current() {
+    Long changes = jdbc.queryForObject("SELECT changes FROM employee_change_counter WHERE id = :id", COUNTER, Long.class);
+    return changes == null ? 0L : changes;
+  }
+}
@@ -0,0 +1,62 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+enum EmployeeColumn {
+  ID("id", "id", (rs, column) -> rs.getObject(column, Long.class)),
+  FIRST_NAME("firstName", "first_name", ResultSet::getString),
+  MIDDLE_NAME("middleName", "middle_name", ResultSet::getString),
+  LAST_NAME("lastName", "last_name", ResultSet::getString),
+  SECOND_LAST_NAME("secondLastName", "second_last_name", ResultSet::getString),
+  AGE("age", "age", (rs, column) -> rs.getObject(column, Integer.class)),
+  SEX("sex", "sex", ResultSet::getString),
+  BIRTH_DATE("birthDate", "birth_date", (rs, column) -> rs.getObject(column, LocalDate.class)),
+  POSITION("position", "position", ResultSet::getString),
+  CREATED_AT("createdAt", "created_at", EmployeeColumn::readInstant),
+  ACTIVE("active", "active", (rs, column) -> rs.getObject(column, Boolean.class));
+
+  private final String attribute;
+  private final String column;
+  private final Reader reader;
+
+  EmployeeColumn(String attribute, String column, Reader reader) {
+    this.attribute = attribute;
+    this.column = column;
+    this.reader = reader;
+  }
+
+  String attribute() {
+    return attribute;
+  }
+
+  String column() {
+    return column;
+  }
+
+  Object read(ResultSet rs) throws SQLException {
+    return reader.read(rs, column);
+  }
+
+  static EmployeeColumn of(String attribute) {
+    for (EmployeeColumn value : values()) {
+      if (value.attribute.equals(attribute)) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported field: " + attribute);
+  }
+
+  private static Object readInstant(ResultSet rs, String column) throws SQLException {
+    Timestamp timestamp = rs.getTimestamp(column);
+    return timestamp == null ? null : timestamp.toInstant();
+  }
+
+  @FunctionalInterface
+  private interface Reader {
+
+    Object read(ResultSet rs, String column) throws SQLException;
+  }
+}
@@ -0,0 +1,124 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class EmployeeReadRepository {
+
+  private static final String EMPLOYEE_COLUMNS = "id, first_name, middle_name, last_name, "
+      + "second_last_name, age, sex, birth_date, position, created_at, active";
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public EmployeeReadRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public <T> List<T> findAll(EmployeeFilter filter, RowMapper<T> rowMapper) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = "SELECT " + EMPLOYEE_COLUMNS + " FROM employees" + where(filter, 0L, params) + " ORDER BY id";
+    return jdbc.query(sql, params, rowMapper);
+  }
+
+  public <T> List<T> findPage(EmployeeFilter filter, long afterId, int limit, RowMapper<T> rowMapper) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = "SELECT " + EMPLOYEE_COLUMNS + " FROM employees" + where(filter, afterId, params)
+        + " ORDER BY id" + limit(limit, params);
+    return jdbc.query(sql, params, rowMapper);
+  }
+
+  public <T> List<T> findAllById(Collection<Long> ids, RowMapper<T> rowMapper) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return jdbc.query("SELECT " + EMPLOYEE_COLUMNS + " FROM employees WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", ids), rowMapper);
+  }
+
+  public List<Map<String, Object>> findProjected(
+      Collection<String> attributes, EmployeeFilter filter, long afterId, Integer limit) {
+    List<EmployeeColumn> columns = withId(attributes);
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = "SELECT " + select(columns) + " FROM employees" + where(filter, afterId, params)
+        + " ORDER BY id" + (limit == null ? "" : limit(limit, params));
+    return jdbc.query(sql, params, (rs, rowNum) -> mapProjection(rs, columns));
+  }
+
+  public List<Map<String, Object>> findProjectedByIds(Collection<String> attributes, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<EmployeeColumn> columns = withId(attributes);
+    return jdbc.query("SELECT " + select(columns) + " FROM employees WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", ids), (rs, rowNum) -> mapProjection(rs, columns));
+  }
+
+  private String where(EmployeeFilter filter, long afterId, MapSqlParameterSource params) {
+    StringBuilder sql = new StringBuilder(" WHERE id > :afterId");
+    params.addValue("afterId", afterId);
+    if (filter == null) {
+      return sql.toString();
+    }
+    if (filter.getPosition() != null && !filter.getPosition().isBlank()) {
+      appendCondition(sql, params, "position = :position", "position", filter.getPosition().trim());
+    }
+    appendCondition(sql, params, "active = :active", "active", filter.getActive());
+    appendCondition(sql, params, "age >= :minAge", "minAge", filter.getMinAge());
+    appendCondition(sql, params, "age <= :maxAge", "maxAge", filter.getMaxAge());
+    appendCondition(sql, params, "birth_date >= :bornFrom", "bornFrom", filter.getBornFrom());
+    appendCondition(sql, params, "birth_date <= :bornTo", "bornTo", filter.getBornTo());
+    return sql.toString();
+  }
+
+  private void appendCondition(
+      StringBuilder sql, MapSqlParameterSource params, String condition, String name, Object value) {
+    if (value != null) {
+      sql.append(" AND ").append(condition);
+      params.addValue(name, value);
+    }
+  }
+
+  private String limit(int limit, MapSqlParameterSource params) {
+    params.addValue("limit", limit);
+    return " LIMIT :limit";
+  }
+
+  private List<EmployeeColumn> withId(Collection<String> attributes) {
+    Set<EmployeeColumn> columns = new LinkedHashSet<>();
+    columns.add(EmployeeColumn.ID);
+    for (String attribute : attributes) {
+      columns.add(EmployeeColumn.of(attribute));
+    }
+    return new ArrayList<>(columns);
+  }
+
+  private String select(List<EmployeeColumn> columns) {
+    StringJoiner select = new StringJoiner(", ");
+    for (EmployeeColumn column : columns) {
+      select.add(column.column());
+    }
+    return select.toString();
+  }
+
+  private static Map<String, Object> mapProjection(ResultSet rs, List<EmployeeColumn> columns) throws SQLException {
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (EmployeeColumn column : columns) {
+      row.put(column.attribute(), column.read(rs));
+    }
+    return row;
+  }
+}
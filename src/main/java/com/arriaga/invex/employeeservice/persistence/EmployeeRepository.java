@@ -1,7 +1,33 @@
 package com.arriaga.invex.employeeservice.persistence;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface EmployeeRepository
+    extends JpaRepository<Employee, Long>, EmployeeSearchRepository {
+
+  int STREAM_FETCH_SIZE = 1000;
+
+  @Query("select e from Employee e order by e.id")
+  @QueryHints({
+      @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+      @QueryHint(name = HINT_READONLY, value = "true"),
+      @QueryHint(name = HINT_CACHEABLE, value = "false")
+  })
+  Stream<Employee> streamAllOrderById();
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+  @Query("select e.position as position, e.sex as sex, e.active as active, "
+      + "count(e) as employees, sum(e.age) as ageSum, count(e.age) as agedEmployees "
+      + "from Employee e group by e.position, e.sex, e.active "
+      + "order by e.position, e.sex, e.active")
+  List<HeadcountRow> countByPositionSexAndActive();
 }
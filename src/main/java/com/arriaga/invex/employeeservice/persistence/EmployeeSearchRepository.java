@@ -0,0 +1,9 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.List;
+
+public interface EmployeeSearchRepository {
+
+  List<Employee> searchByName(String normalizedTerm, int limit);
+}
@@ -0,0 +1,59 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+
+  private static final int NGRAM_TOKEN_SIZE = 2;
+  private static final String FULLTEXT_SEARCH =
+      "SELECT * FROM employees "
+          + "WHERE MATCH(search_name) AGAINST (:phrase IN BOOLEAN MODE) "
+          + "AND search_name LIKE :pattern ESCAPE '!' "
+          + "ORDER BY id";
+  private static final String LIKE_SEARCH =
+      "select e from Employee e where e.searchName like :pattern escape '!' order by e.id";
+
+  private final EntityManager entityManager;
+  private volatile Boolean fullTextSupported;
+
+  EmployeeSearchRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Employee> searchByName(String normalizedTerm, int limit) {
+    String pattern = "%" + escapeLike(normalizedTerm) + "%";
+    if (normalizedTerm.length() >= NGRAM_TOKEN_SIZE && isFullTextSupported()) {
+      return entityManager.createNativeQuery(FULLTEXT_SEARCH, Employee.class)
+          .setParameter("phrase", "\"" + normalizedTerm.replace('"', ' ') + "\"")
+          .setParameter("pattern", pattern)
+          .setMaxResults(limit)
+          .getResultList();
+    }
+    return entityManager.createQuery(LIKE_SEARCH, Employee.class)
+        .setParameter("pattern", pattern)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  private boolean isFullTextSupported() {
+    Boolean supported = fullTextSupported;
+    if (supported == null) {
+      supported = entityManager.getEntityManagerFactory()
+          .unwrap(SessionFactoryImplementor.class)
+          .getJdbcServices()
+          .getDialect() instanceof MySQLDialect;
+      fullTextSupported = supported;
+    }
+    return supported;
+  }
+
+  private String escapeLike(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
+}
@@ -0,0 +1,63 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class EmployeeUpdateRepository {
+
+  private static final Set<EmployeeColumn> IN_PLACE_COLUMNS = EnumSet.of(
+      EmployeeColumn.AGE,
+      EmployeeColumn.SEX,
+      EmployeeColumn.BIRTH_DATE,
+      EmployeeColumn.POSITION,
+      EmployeeColumn.ACTIVE);
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public EmployeeUpdateRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public int updateFields(Long id, Map<String, Object> values, Long expectedVersion) {
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException("values must name at least one field");
+    }
+    StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+    MapSqlParameterSource parameters = new MapSqlParameterSource("id", id);
+    values.forEach((attribute, value) -> {
+      String column = columnOf(attribute);
+      sql.append(column).append(" = :").append(column).append(", ");
+      parameters.addValue(column, value);
+    });
+    sql.append("version = version + 1, updated_at = :updatedAt WHERE id = :id");
+    parameters.addValue("updatedAt", Timestamp.from(Instant.now()));
+    if (expectedVersion != null) {
+      sql.append(" AND version = :version");
+      parameters.addValue("version", expectedVersion);
+    }
+    return jdbc.update(sql.toString(), parameters);
+  }
+
+  public static boolean supports(String attribute) {
+    for (EmployeeColumn column : IN_PLACE_COLUMNS) {
+      if (column.attribute().equals(attribute)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String columnOf(String attribute) {
+    if (!supports(attribute)) {
+      throw new IllegalArgumentException("Field cannot be updated in place: " + attribute);
+    }
+    return EmployeeColumn.of(attribute).column();
+  }
+}
@@ -0,0 +1,109 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FoldSearchNameMigration implements JavaMigration {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final String SELECT_BATCH =
+      "SELECT id, first_name, middle_name, last_name, second_last_name FROM employees "
+          + "WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE;
+  private static final String UPDATE_SEARCH_NAME = "UPDATE employees SET search_name = ? WHERE id = ?";
+  private static final Normalizer.Form FOLD_FORM = Normalizer.Form.NFD;
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final int CHECKSUM = checksum(SELECT_BATCH, UPDATE_SEARCH_NAME, FOLD_FORM.name(),
+      COMBINING_MARKS.pattern(), WHITESPACE.pattern(), Locale.ROOT.toLanguageTag());
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("4");
+  }
+
+  @Override
+  public String getDescription() {
+    return "fold employee search names";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return CHECKSUM;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    try (PreparedStatement select = connection.prepareStatement(SELECT_BATCH);
+        PreparedStatement update = connection.prepareStatement(UPDATE_SEARCH_NAME)) {
+      long lastId = 0L;
+      int rows;
+      do {
+        rows = 0;
+        select.setLong(1, lastId);
+        try (ResultSet resultSet = select.executeQuery()) {
+          while (resultSet.next()) {
+            lastId = resultSet.getLong(1);
+            update.setString(1, foldedName(
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getString(5)));
+            update.setLong(2, lastId);
+            update.addBatch();
+            rows++;
+          }
+        }
+        update.executeBatch();
+      } while (rows == BATCH_SIZE);
+    }
+  }
+
+  static String foldedName(String... parts) {
+    StringJoiner joiner = new StringJoiner(" ");
+    for (String part : parts) {
+      String folded = fold(part);
+      if (!folded.isEmpty()) {
+        joiner.add(folded);
+      }
+    }
+    String joined = joiner.toString();
+    return joined.isEmpty() ? null : joined;
+  }
+
+  private static String fold(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value.trim(), FOLD_FORM);
+    String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    String collapsed = WHITESPACE.matcher(stripped).replaceAll(" ");
+    return collapsed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+  }
+
+  private static int checksum(String... parts) {
+    CRC32 crc = new CRC32();
+    for (String part : parts) {
+      crc.update(part.getBytes(StandardCharsets.UTF_8));
+      crc.update('\n');
+    }
+    return (int) crc.getValue();
+  }
+}
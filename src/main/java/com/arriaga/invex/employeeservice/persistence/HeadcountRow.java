@@ -0,0 +1,16 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+public interface HeadcountRow {
+
+  String getPosition();
+
+  String getSex();
+
+  Boolean getActive();
+
+  Long getEmployees();
+
+  Long getAgeSum();
+
+  Long getAgedEmployees();
+}
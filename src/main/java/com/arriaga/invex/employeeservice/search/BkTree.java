@@ -0,0 +1,138 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+final class BkTree {
+
+  private static final int[] NO_DISTANCES = new int[0];
+  private static final Node[] NO_NODES = new Node[0];
+
+  private Node root;
+  private int live;
+  private int removed;
+
+  void add(String term) {
+    if (root == null) {
+      root = new Node(term);
+      live++;
+      return;
+    }
+    Node node = root;
+    while (true) {
+      int distance = Levenshtein.distance(term, node.term);
+      if (distance == 0) {
+        if (!node.live) {
+          node.live = true;
+          live++;
+          removed--;
+        }
+        return;
+      }
+      Node child = node.child(distance);
+      if (child == null) {
+        node.addChild(distance, new Node(term));
+        live++;
+        return;
+      }
+      node = child;
+    }
+  }
+
+  void remove(String term) {
+    Node node = root;
+    while (node != null) {
+      int distance = Levenshtein.distance(term, node.term);
+      if (distance == 0) {
+        if (node.live) {
+          node.live = false;
+          live--;
+          removed++;
+          compactIfSparse();
+        }
+        return;
+      }
+      node = node.child(distance);
+    }
+  }
+
+  void search(String term, int maxDistance, ObjIntConsumer<String> visitor) {
+    if (root == null) {
+      return;
+    }
+    Deque<Node> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      Node node = pending.pop();
+      int distance = Levenshtein.distance(term, node.term);
+      if (node.live && distance <= maxDistance) {
+        visitor.accept(node.term, distance);
+      }
+      for (int i = 0; i < node.distances.length; i++) {
+        if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+          pending.push(node.children[i]);
+        }
+      }
+    }
+  }
+
+  int size() {
+    return live;
+  }
+
+  private void compactIfSparse() {
+    if (removed <= live) {
+      return;
+    }
+    List<String> terms = new ArrayList<>(live);
+    Deque<Node> pending = new ArrayDeque<>();
+    if (root != null) {
+      pending.push(root);
+    }
+    while (!pending.isEmpty()) {
+      Node node = pending.pop();
+      if (node.live) {
+        terms.add(node.term);
+      }
+      for (Node child : node.children) {
+        pending.push(child);
+      }
+    }
+    root = null;
+    live = 0;
+    removed = 0;
+    terms.forEach(this::add);
+  }
+
+  private static final class Node {
+
+    private final String term;
+    private boolean live = true;
+    private int[] distances = NO_DISTANCES;
+    private Node[] children = NO_NODES;
+
+    private Node(String term) {
+      this.term = term;
+    }
+
+    private Node child(int distance) {
+      for (int i = 0; i < distances.length; i++) {
+        if (distances[i] == distance) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    private void addChild(int distance, Node child) {
+      distances = Arrays.copyOf(distances, distances.length + 1);
+      children = Arrays.copyOf(children, children.length + 1);
+      distances[distances.length - 1] = distance;
+      children[children.length - 1] = child;
+    }
+  }
+}
@@ -0,0 +1,318 @@
+package com.arriaga.invex.employeeservice.search;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeSearchIndex {
+
+  public static final int MAX_SUGGESTIONS = 10;
+
+  private static final int MAX_EDIT_DISTANCE = 2;
+  private static final int SHORT_TOKEN_LENGTH = 5;
+
+  private static final Comparator<ScoredId> WORST_FIRST = Comparator
+      .comparingInt(ScoredId::score)
+      .thenComparing(Comparator.comparingLong(ScoredId::id).reversed());
+
+  private final TrigramIndex trigrams = new TrigramIndex();
+  private final NameTrie tokens = new NameTrie(MAX_SUGGESTIONS);
+  private final BkTree dictionary = new BkTree();
+  private final LongObjectMap<SearchKeys> fields = new LongObjectMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private List<PendingChange> pending;
+  private volatile boolean ready;
+
+  public void index(Employee employee) {
+    if (employee == null || employee.getId() == null) {
+      return;
+    }
+    PendingChange change = new PendingChange(employee.getId(), employee.getSearchName(), SearchKeys.of(employee));
+    lock.writeLock().lock();
+    try {
+      apply(change);
+      if (pending != null) {
+        pending.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    if (id == null) {
+      return;
+    }
+    PendingChange change = new PendingChange(id, null, null);
+    lock.writeLock().lock();
+    try {
+      apply(change);
+      if (pending != null) {
+        pending.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void beginBuild() {
+    lock.writeLock().lock();
+    try {
+      pending = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void load(Employee employee) {
+    if (employee == null || employee.getId() == null) {
+      return;
+    }
+    PendingChange change = new PendingChange(employee.getId(), employee.getSearchName(), SearchKeys.of(employee));
+    lock.writeLock().lock();
+    try {
+      apply(change);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void finishBuild() {
+    lock.writeLock().lock();
+    try {
+      if (pending != null) {
+        pending.forEach(this::apply);
+        pending = null;
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void cancelBuild() {
+    lock.writeLock().lock();
+    try {
+      pending = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<Long> search(String normalizedTerm, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    PriorityQueue<ScoredId> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+    lock.readLock().lock();
+    try {
+      if (normalizedTerm.indexOf(' ') >= 0) {
+        trigrams.forEachMatch(normalizedTerm, id -> {
+          offer(best, limit, id, SearchScorer.score(fields.get(id), normalizedTerm));
+          return true;
+        });
+      } else {
+        searchToken(normalizedTerm, limit, best);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return ranked(best);
+  }
+
+  private void searchToken(String term, int limit, PriorityQueue<ScoredId> best) {
+    LongPostingList exact = tokens.idsOf(term);
+    for (int i = 0; exact != null && i < exact.size() && !settled(best, limit, SearchScorer.BEST_EXACT); i++) {
+      offer(best, limit, exact.get(i), SearchScorer.score(fields.get(exact.get(i)), term));
+    }
+    tokens.forEachId(term, id -> {
+      if (exact != null && exact.contains(id)) {
+        return true;
+      }
+      if (settled(best, limit, SearchScorer.BEST_PREFIX)) {
+        return false;
+      }
+      offer(best, limit, id, SearchScorer.score(fields.get(id), term));
+      return true;
+    });
+    trigrams.forEachMatch(term, id -> {
+      if (settled(best, limit, SearchScorer.BEST_SUBSTRING)) {
+        return false;
+      }
+      int score = SearchScorer.score(fields.get(id), term);
+      if (score <= SearchScorer.BEST_SUBSTRING) {
+        offer(best, limit, id, score);
+      }
+      return true;
+    });
+  }
+
+  public List<Long> fuzzySearch(String normalizedTerm, int limit) {
+    if (limit <= 0 || normalizedTerm.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Integer> scores = null;
+    lock.readLock().lock();
+    try {
+      for (String queryToken : SearchText.tokens(normalizedTerm)) {
+        Map<Long, Integer> tokenScores = new HashMap<>();
+        int maxDistance = maxEditDistance(queryToken);
+        dictionary.search(queryToken, maxDistance, (token, distance) -> {
+          LongPostingList ids = tokens.idsOf(token);
+          for (int i = 0; ids != null && i < ids.size(); i++) {
+            tokenScores.merge(ids.get(i), MAX_EDIT_DISTANCE + 1 - distance, Math::max);
+          }
+        });
+        if (scores == null) {
+          scores = tokenScores;
+        } else {
+          scores.keySet().retainAll(tokenScores.keySet());
+          scores.replaceAll((id, score) -> score + tokenScores.get(id));
+        }
+        if (scores.isEmpty()) {
+          return List.of();
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    PriorityQueue<ScoredId> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+    scores.forEach((id, score) -> offer(best, limit, id, score));
+    return ranked(best);
+  }
+
+  public List<NameSuggestion> suggest(String normalizedPrefix, int limit) {
+    lock.readLock().lock();
+    try {
+      return tokens.suggest(normalizedPrefix, Math.min(limit, MAX_SUGGESTIONS));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return trigrams.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    ready = true;
+  }
+
+  private void apply(PendingChange change) {
+    long id = change.id;
+    Set<String> previous = tokensOf(trigrams.keyOf(id));
+    Set<String> current = change.fields == null ? Set.of() : tokensOf(change.key);
+    for (String token : previous) {
+      if (!current.contains(token)) {
+        removeToken(token, id);
+      }
+    }
+    for (String token : current) {
+      addToken(token, id);
+    }
+    if (change.fields == null) {
+      trigrams.remove(id);
+      fields.remove(id);
+    } else {
+      trigrams.put(id, change.key);
+      fields.put(id, change.fields);
+    }
+  }
+
+  private void addToken(String token, long id) {
+    tokens.add(token, id);
+    if (tokens.count(token) == 1) {
+      dictionary.add(token);
+    }
+  }
+
+  private void removeToken(String token, long id) {
+    tokens.remove(token, id);
+    if (tokens.count(token) == 0) {
+      dictionary.remove(token);
+    }
+  }
+
+  private int maxEditDistance(String token) {
+    if (token.length() < 3) {
+      return 0;
+    }
+    return token.length() <= SHORT_TOKEN_LENGTH ? 1 : MAX_EDIT_DISTANCE;
+  }
+
+  private void offer(PriorityQueue<ScoredId> best, int limit, long id, int score) {
+    best.add(new ScoredId(id, score));
+    if (best.size() > limit) {
+      best.poll();
+    }
+  }
+
+  private boolean settled(PriorityQueue<ScoredId> best, int limit, int bestRemaining) {
+    return best.size() == limit && best.peek().score() >= bestRemaining;
+  }
+
+  private List<Long> ranked(PriorityQueue<ScoredId> best) {
+    List<ScoredId> ranked = new ArrayList<>(best);
+    ranked.sort(WORST_FIRST.reversed());
+    return ranked.stream().map(ScoredId::id).toList();
+  }
+
+  private Set<String> tokensOf(String key) {
+    if (key == null || key.isEmpty()) {
+      return Set.of();
+    }
+    return new LinkedHashSet<>(Arrays.asList(SearchText.tokens(key)));
+  }
+
+  private static final class PendingChange {
+
+    private final long id;
+    private final String key;
+    private final SearchKeys fields;
+
+    private PendingChange(long id, String key, SearchKeys fields) {
+      this.id = id;
+      this.key = key;
+      this.fields = fields;
+    }
+  }
+
+  private static final class ScoredId {
+
+    private final long id;
+    private final int score;
+
+    private ScoredId(long id, int score) {
+      this.id = id;
+      this.score = score;
+    }
+
+    private long id() {
+      return id;
+    }
+
+    private int score() {
+      return score;
+    }
+  }
+}
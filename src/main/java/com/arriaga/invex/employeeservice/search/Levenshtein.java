@@ -0,0 +1,30 @@
+package com.arriaga.invex.employeeservice.search;
+
+final class Levenshtein {
+
+  private Levenshtein() {
+  }
+
+  static int distance(String left, String right) {
+    if (left.equals(right)) {
+      return 0;
+    }
+    int[] previous = new int[right.length() + 1];
+    int[] current = new int[right.length() + 1];
+    for (int j = 0; j <= right.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= left.length(); i++) {
+      current[0] = i;
+      char leftChar = left.charAt(i - 1);
+      for (int j = 1; j <= right.length(); j++) {
+        int substitution = previous[j - 1] + (leftChar == right.charAt(j - 1) ? 0 : 1);
+        current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[right.length()];
+  }
+}
@@ -0,0 +1,98 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.util.Objects;
+
+final class LongObjectMap<V> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private Object[] values = new Object[INITIAL_CAPACITY];
+  private int size;
+
+  V get(long key) {
+    int mask = keys.length - 1;
+    for (int slot = slotOf(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return value(slot);
+      }
+    }
+    return null;
+  }
+
+  V put(long key, V value) {
+    Objects.requireNonNull(value, "value");
+    int mask = keys.length - 1;
+    int slot = slotOf(key, mask);
+    while (values[slot] != null) {
+      if (keys[slot] == key) {
+        V previous = value(slot);
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size * 4 > keys.length * 3) {
+      resize(keys.length * 2);
+    }
+    return null;
+  }
+
+  V remove(long key) {
+    int mask = keys.length - 1;
+    int slot = slotOf(key, mask);
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    if (values[slot] == null) {
+      return null;
+    }
+    V previous = value(slot);
+    int gap = slot;
+    for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+      int home = slotOf(keys[next], mask);
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+    }
+    values[gap] = null;
+    size--;
+    return previous;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slotOf(oldKeys[i], mask);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private V value(int slot) {
+    return (V) values[slot];
+  }
+
+  private static int slotOf(long key, int mask) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
@@ -0,0 +1,61 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.util.Arrays;
+
+final class LongPostingList {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private int size;
+
+  boolean add(long id) {
+    if (size == 0 || id > ids[size - 1]) {
+      ensureCapacity();
+      ids[size++] = id;
+      return true;
+    }
+    int position = Arrays.binarySearch(ids, 0, size, id);
+    if (position >= 0) {
+      return false;
+    }
+    int insertAt = -position - 1;
+    ensureCapacity();
+    System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+    ids[insertAt] = id;
+    size++;
+    return true;
+  }
+
+  boolean remove(long id) {
+    int position = Arrays.binarySearch(ids, 0, size, id);
+    if (position < 0) {
+      return false;
+    }
+    System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+    size--;
+    return true;
+  }
+
+  boolean contains(long id) {
+    return Arrays.binarySearch(ids, 0, size, id) >= 0;
+  }
+
+  long get(int index) {
+    return ids[index];
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void ensureCapacity() {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, ids.length * 2);
+    }
+  }
+}
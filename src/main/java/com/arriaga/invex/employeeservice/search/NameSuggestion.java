@@ -0,0 +1,20 @@
+package com.arriaga.invex.employeeservice.search;
+
+public class NameSuggestion {
+
+  private final String token;
+  private final int count;
+
+  public NameSuggestion(String token, int count) {
+    this.token = token;
+    this.count = count;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public int getCount() {
+    return count;
+  }
+}
@@ -0,0 +1,218 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+final class NameTrie {
+
+  private static final char[] NO_LABELS = new char[0];
+  private static final Node[] NO_NODES = new Node[0];
+  private static final Comparator<Node> RANKING = Comparator
+      .comparingInt((Node node) -> node.ids.size()).reversed()
+      .thenComparing(node -> node.token);
+
+  private final int topK;
+  private final Node root = new Node();
+
+  NameTrie(int topK) {
+    this.topK = topK;
+  }
+
+  void add(String token, long id) {
+    List<Node> path = new ArrayList<>(token.length() + 1);
+    Node node = root;
+    path.add(node);
+    for (int i = 0; i < token.length(); i++) {
+      node = node.childOrCreate(token.charAt(i));
+      path.add(node);
+    }
+    if (node.ids == null) {
+      node.ids = new LongPostingList();
+      node.token = token;
+    }
+    if (node.ids.add(id)) {
+      refresh(path, token);
+    }
+  }
+
+  void remove(String token, long id) {
+    List<Node> path = new ArrayList<>(token.length() + 1);
+    Node node = root;
+    path.add(node);
+    for (int i = 0; i < token.length() && node != null; i++) {
+      node = node.child(token.charAt(i));
+      path.add(node);
+    }
+    if (node == null || node.ids == null || !node.ids.remove(id)) {
+      return;
+    }
+    if (node.ids.isEmpty()) {
+      node.ids = null;
+      node.token = null;
+    }
+    refresh(path, token);
+  }
+
+  LongPostingList idsOf(String token) {
+    Node node = root;
+    for (int i = 0; i < token.length() && node != null; i++) {
+      node = node.child(token.charAt(i));
+    }
+    return node == null ? null : node.ids;
+  }
+
+  void forEachId(String prefix, LongPredicate visitor) {
+    Node node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.child(prefix.charAt(i));
+    }
+    if (node == null) {
+      return;
+    }
+    PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingLong(Cursor::current));
+    collect(node, cursors);
+    long previous = Long.MIN_VALUE;
+    boolean first = true;
+    while (!cursors.isEmpty()) {
+      Cursor cursor = cursors.poll();
+      long id = cursor.current();
+      if ((first || id != previous) && !visitor.test(id)) {
+        return;
+      }
+      first = false;
+      previous = id;
+      if (cursor.advance()) {
+        cursors.add(cursor);
+      }
+    }
+  }
+
+  int count(String token) {
+    LongPostingList ids = idsOf(token);
+    return ids == null ? 0 : ids.size();
+  }
+
+  List<NameSuggestion> suggest(String prefix, int limit) {
+    Node node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.child(prefix.charAt(i));
+    }
+    if (node == null) {
+      return List.of();
+    }
+    int size = Math.min(limit, node.top.length);
+    List<NameSuggestion> suggestions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Node terminal = node.top[i];
+      suggestions.add(new NameSuggestion(terminal.token, terminal.ids.size()));
+    }
+    return suggestions;
+  }
+
+  private void collect(Node node, PriorityQueue<Cursor> cursors) {
+    if (node.ids != null) {
+      cursors.add(new Cursor(node.ids));
+    }
+    for (Node child : node.children) {
+      collect(child, cursors);
+    }
+  }
+
+  private void refresh(List<Node> path, String token) {
+    for (int depth = path.size() - 1; depth >= 0; depth--) {
+      Node node = path.get(depth);
+      if (depth > 0 && node.isEmpty()) {
+        path.get(depth - 1).removeChild(token.charAt(depth - 1));
+        continue;
+      }
+      node.top = rank(node);
+    }
+  }
+
+  private Node[] rank(Node node) {
+    List<Node> candidates = new ArrayList<>();
+    if (node.ids != null) {
+      candidates.add(node);
+    }
+    for (Node child : node.children) {
+      candidates.addAll(Arrays.asList(child.top));
+    }
+    candidates.sort(RANKING);
+    return candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_NODES);
+  }
+
+  private static final class Cursor {
+
+    private final LongPostingList ids;
+    private int index;
+
+    private Cursor(LongPostingList ids) {
+      this.ids = ids;
+    }
+
+    private long current() {
+      return ids.get(index);
+    }
+
+    private boolean advance() {
+      return ++index < ids.size();
+    }
+  }
+
+  private static final class Node {
+
+    private char[] labels = NO_LABELS;
+    private Node[] children = NO_NODES;
+    private Node[] top = NO_NODES;
+    private String token;
+    private LongPostingList ids;
+
+    private Node child(char label) {
+      int position = Arrays.binarySearch(labels, label);
+      return position >= 0 ? children[position] : null;
+    }
+
+    private Node childOrCreate(char label) {
+      int position = Arrays.binarySearch(labels, label);
+      if (position >= 0) {
+        return children[position];
+      }
+      int insertAt = -position - 1;
+      Node created = new Node();
+      char[] newLabels = new char[labels.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(labels, 0, newLabels, 0, insertAt);
+      System.arraycopy(children, 0, newChildren, 0, insertAt);
+      newLabels[insertAt] = label;
+      newChildren[insertAt] = created;
+      System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+      System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+      labels = newLabels;
+      children = newChildren;
+      return created;
+    }
+
+    private void removeChild(char label) {
+      int position = Arrays.binarySearch(labels, label);
+      if (position < 0) {
+        return;
+      }
+      char[] newLabels = new char[labels.length - 1];
+      Node[] newChildren = new Node[children.length - 1];
+      System.arraycopy(labels, 0, newLabels, 0, position);
+      System.arraycopy(children, 0, newChildren, 0, position);
+      System.arraycopy(labels, position + 1, newLabels, position, labels.length - position - 1);
+      System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+      labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+      children = newChildren.length == 0 ? NO_NODES : newChildren;
+    }
+
+    private boolean isEmpty() {
+      return ids == null && children.length == 0;
+    }
+  }
+}
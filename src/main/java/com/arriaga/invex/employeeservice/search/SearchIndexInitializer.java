@@ -0,0 +1,38 @@
+package com.arriaga.invex.employeeservice.search;
+
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexInitializer {
+
+  private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+  private final EmployeeService employeeService;
+  private final EmployeeSearchIndex searchIndex;
+
+  public SearchIndexInitializer(EmployeeService employeeService, EmployeeSearchIndex searchIndex) {
+    this.employeeService = employeeService;
+    this.searchIndex = searchIndex;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildIndex() {
+    long started = System.nanoTime();
+    searchIndex.beginBuild();
+    try {
+      employeeService.exportAll(searchIndex::load);
+    } catch (RuntimeException ex) {
+      searchIndex.cancelBuild();
+      throw ex;
+    }
+    searchIndex.finishBuild();
+    log.info("Employee search index built entries={} tookMs={}",
+        searchIndex.size(),
+        (System.nanoTime() - started) / 1_000_000);
+  }
+}
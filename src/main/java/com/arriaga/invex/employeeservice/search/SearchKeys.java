@@ -0,0 +1,35 @@
+package com.arriaga.invex.employeeservice.search;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+
+final class SearchKeys {
+
+  static final int FIELD_COUNT = 4;
+
+  private final String[] fields;
+  private final String[][] tokens;
+
+  private SearchKeys(String[] fields) {
+    this.fields = fields;
+    this.tokens = new String[fields.length][];
+    for (int i = 0; i < fields.length; i++) {
+      tokens[i] = SearchText.tokens(fields[i]);
+    }
+  }
+
+  static SearchKeys of(Employee employee) {
+    return new SearchKeys(new String[] {
+        SearchText.normalize(employee.getFirstName()),
+        SearchText.normalize(employee.getMiddleName()),
+        SearchText.normalize(employee.getLastName()),
+        SearchText.normalize(employee.getSecondLastName())});
+  }
+
+  String field(int index) {
+    return fields[index];
+  }
+
+  String[] tokens(int index) {
+    return tokens[index];
+  }
+}
@@ -0,0 +1,45 @@
+package com.arriaga.invex.employeeservice.search;
+
+final class SearchScorer {
+
+  private static final int EXACT = 100;
+  private static final int PREFIX = 10;
+  private static final int SUBSTRING = 1;
+  private static final int[] FIELD_WEIGHTS = {2, 1, 2, 1};
+  private static final int MAX_FIELD_WEIGHT = 2;
+
+  static final int BEST_EXACT = EXACT * MAX_FIELD_WEIGHT;
+  static final int BEST_PREFIX = PREFIX * MAX_FIELD_WEIGHT;
+  static final int BEST_SUBSTRING = SUBSTRING * MAX_FIELD_WEIGHT;
+
+  private SearchScorer() {
+  }
+
+  static int score(SearchKeys keys, String term) {
+    boolean phrase = term.indexOf(' ') >= 0;
+    int best = SUBSTRING;
+    for (int field = 0; field < SearchKeys.FIELD_COUNT; field++) {
+      int kind = phrase ? kind(keys.field(field), term) : bestTokenKind(keys.tokens(field), term);
+      best = Math.max(best, kind * FIELD_WEIGHTS[field]);
+    }
+    return best;
+  }
+
+  private static int bestTokenKind(String[] tokens, String term) {
+    int best = 0;
+    for (String token : tokens) {
+      best = Math.max(best, kind(token, term));
+    }
+    return best;
+  }
+
+  private static int kind(String value, String term) {
+    if (value.equals(term)) {
+      return EXACT;
+    }
+    if (value.startsWith(term)) {
+      return PREFIX;
+    }
+    return value.contains(term) ? SUBSTRING : 0;
+  }
+}
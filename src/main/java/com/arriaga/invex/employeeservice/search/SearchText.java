@@ -0,0 +1,44 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+public final class SearchText {
+
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private SearchText() {
+  }
+
+  public static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+    String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    String collapsed = WHITESPACE.matcher(stripped).replaceAll(" ");
+    return collapsed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+  }
+
+  public static String fullName(String... parts) {
+    StringJoiner joiner = new StringJoiner(" ");
+    for (String part : parts) {
+      String normalized = normalize(part);
+      if (!normalized.isEmpty()) {
+        joiner.add(normalized);
+      }
+    }
+    String joined = joiner.toString();
+    return joined.isEmpty() ? null : joined;
+  }
+
+  public static String[] tokens(String normalized) {
+    if (normalized == null || normalized.isEmpty()) {
+      return new String[0];
+    }
+    return normalized.split(" ");
+  }
+}
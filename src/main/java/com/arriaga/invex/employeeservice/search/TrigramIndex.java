@@ -0,0 +1,100 @@
+package com.arriaga.invex.employeeservice.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+final class TrigramIndex {
+
+  static final int GRAM = 3;
+
+  private final LongObjectMap<LongPostingList> postings = new LongObjectMap<>();
+  private final LongObjectMap<String> keys = new LongObjectMap<>();
+
+  void put(long id, String key) {
+    String previous = keys.get(id);
+    if (key == null || key.isEmpty()) {
+      remove(id);
+      return;
+    }
+    if (key.equals(previous)) {
+      return;
+    }
+    if (previous != null) {
+      removeGrams(id, previous);
+    }
+    keys.put(id, key);
+    for (int i = 0; i + GRAM <= key.length(); i++) {
+      long gram = gram(key, i);
+      LongPostingList list = postings.get(gram);
+      if (list == null) {
+        list = new LongPostingList();
+        postings.put(gram, list);
+      }
+      list.add(id);
+    }
+  }
+
+  void remove(long id) {
+    String previous = keys.remove(id);
+    if (previous != null) {
+      removeGrams(id, previous);
+    }
+  }
+
+  String keyOf(long id) {
+    return keys.get(id);
+  }
+
+  int size() {
+    return keys.size();
+  }
+
+  void forEachMatch(String term, LongPredicate visitor) {
+    if (term.length() < GRAM) {
+      return;
+    }
+    List<LongPostingList> lists = new ArrayList<>();
+    for (int i = 0; i + GRAM <= term.length(); i++) {
+      LongPostingList list = postings.get(gram(term, i));
+      if (list == null) {
+        return;
+      }
+      lists.add(list);
+    }
+    lists.sort(Comparator.comparingInt(LongPostingList::size));
+    LongPostingList smallest = lists.get(0);
+    for (int i = 0; i < smallest.size(); i++) {
+      long id = smallest.get(i);
+      if (inAll(lists, id) && keys.get(id).contains(term) && !visitor.test(id)) {
+        return;
+      }
+    }
+  }
+
+  private boolean inAll(List<LongPostingList> lists, long id) {
+    for (int i = 1; i < lists.size(); i++) {
+      if (!lists.get(i).contains(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void removeGrams(long id, String key) {
+    for (int i = 0; i + GRAM <= key.length(); i++) {
+      long gram = gram(key, i);
+      LongPostingList list = postings.get(gram);
+      if (list != null && list.remove(id) && list.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+
+  private static long gram(String value, int offset) {
+    return ((long) value.charAt(offset) << 32)
+        | ((long) value.charAt(offset + 1) << 16)
+        | value.charAt(offset + 2);
+  }
+}
@@ -35,8 +35,16 @@ public class SecurityConfig {
             .requestMatchers(new AntPathRequestMatcher("/employees", "GET")).hasAuthority(SCOPE_EMPLOYEE_READ)
             .requestMatchers(new AntPathRequestMatcher(EMPLOYEES_WILDCARD, "GET")).hasAuthority(SCOPE_EMPLOYEE_READ)
             .requestMatchers(new AntPathRequestMatcher("/employees/search", "GET")).hasAuthority(SCOPE_EMPLOYEE_READ)
+            .requestMatchers(new AntPathRequestMatcher("/employees/lookup", "POST")).hasAuthority(SCOPE_EMPLOYEE_READ)
+            .requestMatchers(new AntPathRequestMatcher("/employees/bulk-jobs/*", "GET")).hasAuthority(SCOPE_EMPLOYEE_READ)
+            .requestMatchers(new AntPathRequestMatcher("/employees/bulk-jobs/*/results", "GET"))
+            .hasAuthority(SCOPE_EMPLOYEE_READ)
             .requestMatchers(new AntPathRequestMatcher("/employees", "POST"))
             .hasAuthority(SCOPE_EMPLOYEE_WRITE)
+            .requestMatchers(new AntPathRequestMatcher("/employees/import", "POST"))
+            .hasAuthority(SCOPE_EMPLOYEE_WRITE)
+            .requestMatchers(new AntPathRequestMatcher("/employees/bulk-jobs", "POST"))
+            .hasAuthority(SCOPE_EMPLOYEE_WRITE)
             .requestMatchers(new AntPathRequestMatcher(EMPLOYEES_WILDCARD, "PUT"))
             .hasAuthority(SCOPE_EMPLOYEE_WRITE)
             .requestMatchers(new AntPathRequestMatcher(EMPLOYEES_WILDCARD, "DELETE"))
@@ -0,0 +1,253 @@
+package com.arriaga.invex.employeeservice.service;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobStatus;
+import com.arriaga.invex.employeeservice.exception.EmployeeBulkJobNotFoundException;
+import com.arriaga.invex.employeeservice.exception.EmployeeBulkJobRejectedException;
+import com.arriaga.invex.employeeservice.persistence.EmployeeBulkJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class EmployeeBulkJobService {
+
+  private static final Logger log = LoggerFactory.getLogger(EmployeeBulkJobService.class);
+  private static final TypeReference<List<Employee>> PAYLOAD_TYPE = new TypeReference<>() {
+  };
+
+  private final EmployeeService employeeService;
+  private final EmployeeBulkJobRepository repository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolExecutor executor;
+  private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+  private final String owner = UUID.randomUUID().toString();
+  private final int chunkSize;
+  private final int maxRows;
+  private final Duration lease;
+
+  public EmployeeBulkJobService(
+      EmployeeService employeeService,
+      EmployeeBulkJobRepository repository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${employee.bulk-jobs.workers:2}") int workers,
+      @Value("${employee.bulk-jobs.queue-capacity:20}") int queueCapacity,
+      @Value("${employee.bulk-jobs.chunk-size:500}") int chunkSize,
+      @Value("${employee.bulk-jobs.max-rows:50000}") int maxRows,
+      @Value("${employee.bulk-jobs.lease-seconds:300}") int leaseSeconds) {
+    if (workers < 1 || queueCapacity < 1 || chunkSize < 1 || maxRows < 1 || leaseSeconds < 1) {
+      throw new IllegalArgumentException(
+          "employee.bulk-jobs workers, queue-capacity, chunk-size, max-rows and lease-seconds must be positive");
+    }
+    this.employeeService = employeeService;
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.executor = new ThreadPoolExecutor(
+        workers,
+        workers,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new CustomizableThreadFactory("employee-bulk-job-"),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.chunkSize = chunkSize;
+    this.maxRows = maxRows;
+    this.lease = Duration.ofSeconds(leaseSeconds);
+  }
+
+  public EmployeeBulkJob submit(List<Employee> rows, List<EmployeeBulkJobResult> rejected) {
+    if (rows.isEmpty()) {
+      throw new IllegalArgumentException("Request body must contain at least one employee");
+    }
+    if (rows.size() > maxRows) {
+      throw new IllegalArgumentException("At most " + maxRows + " employees can be submitted in one bulk job");
+    }
+    if (executor.getQueue().remainingCapacity() == 0) {
+      throw new EmployeeBulkJobRejectedException();
+    }
+    String id = UUID.randomUUID().toString();
+    scheduled.add(id);
+    repository.insert(id, rows.size(), writePayload(rows), sorted(new ArrayList<>(rejected)));
+    try {
+      executor.execute(() -> run(id));
+    } catch (RejectedExecutionException ex) {
+      scheduled.remove(id);
+      repository.delete(id);
+      throw new EmployeeBulkJobRejectedException();
+    }
+    return repository.findById(id).orElseThrow(() -> new EmployeeBulkJobNotFoundException(id));
+  }
+
+  public EmployeeBulkJob find(String id) {
+    return repository.findById(id).orElseThrow(() -> new EmployeeBulkJobNotFoundException(id));
+  }
+
+  public EmployeePage<EmployeeBulkJobResult> findResults(String id, Long afterIndex, int limit) {
+    if (repository.findById(id).isEmpty()) {
+      throw new EmployeeBulkJobNotFoundException(id);
+    }
+    int from = afterIndex == null ? -1 : (int) Math.min(afterIndex, Integer.MAX_VALUE);
+    List<EmployeeBulkJobResult> rows = repository.findResults(id, from, limit + 1);
+    if (rows.size() <= limit) {
+      return new EmployeePage<>(rows, null);
+    }
+    List<EmployeeBulkJobResult> items = rows.subList(0, limit);
+    return new EmployeePage<>(items, (long) items.get(limit - 1).getIndex());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "#{${employee.bulk-jobs.poll-seconds:30} * 1000}",
+      fixedDelayString = "#{${employee.bulk-jobs.poll-seconds:30} * 1000}")
+  public void resumeUnfinished() {
+    if (executor.isShutdown()) {
+      return;
+    }
+    int resumed = 0;
+    int deferred = 0;
+    for (String id : repository.findClaimableIds()) {
+      if (!scheduled.add(id)) {
+        continue;
+      }
+      try {
+        executor.execute(() -> run(id));
+        resumed++;
+      } catch (RejectedExecutionException ex) {
+        scheduled.remove(id);
+        deferred++;
+      }
+    }
+    if (deferred > 0) {
+      log.warn("Bulk job queue full; {} jobs stay queued until the next poll", deferred);
+    }
+    if (resumed > 0) {
+      log.info("Resumed unfinished bulk jobs resumed={} deferred={}", resumed, deferred);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  void run(String id) {
+    try {
+      execute(id);
+    } finally {
+      scheduled.remove(id);
+    }
+  }
+
+  private void execute(String id) {
+    if (!repository.claim(id, owner, lease)) {
+      return;
+    }
+    try {
+      EmployeeBulkJob job = repository.findById(id).orElse(null);
+      String payload = repository.findPayload(id);
+      if (job == null || payload == null) {
+        return;
+      }
+      List<Employee> rows = objectMapper.readValue(payload, PAYLOAD_TYPE);
+      for (int from = job.getProcessed(); from < rows.size(); from += chunkSize) {
+        if (Thread.currentThread().isInterrupted()) {
+          repository.release(id, owner);
+          return;
+        }
+        if (!processChunk(id, rows.subList(from, Math.min(from + chunkSize, rows.size())), from)) {
+          log.warn("Bulk job {} lease was taken over by another instance", id);
+          return;
+        }
+      }
+      repository.finish(id, owner, EmployeeBulkJobStatus.COMPLETED);
+    } catch (JsonProcessingException | RuntimeException ex) {
+      if (executor.isShutdown()) {
+        repository.release(id, owner);
+        return;
+      }
+      log.error("Bulk job {} failed", id, ex);
+      repository.finish(id, owner, EmployeeBulkJobStatus.FAILED);
+    }
+  }
+
+  private boolean processChunk(String id, List<Employee> chunk, int offset) {
+    List<Employee> employees = new ArrayList<>(chunk.size());
+    List<Integer> indexes = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      if (chunk.get(i) != null) {
+        employees.add(chunk.get(i));
+        indexes.add(offset + i);
+      }
+    }
+    int processed = offset + chunk.size();
+    try {
+      return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        List<EmployeeBulkJobResult> results = new ArrayList<>(employees.size());
+        if (!employees.isEmpty()) {
+          List<Employee> saved = employeeService.createAll(employees);
+          for (int i = 0; i < saved.size(); i++) {
+            results.add(new EmployeeBulkJobResult(indexes.get(i), saved.get(i).getId(), List.of()));
+          }
+        }
+        return recordChunk(status, id, processed, results);
+      }));
+    } catch (DataAccessException ex) {
+      log.warn("Bulk job {} could not save rows {}-{}", id, offset, processed - 1, ex);
+      List<EmployeeBulkJobResult> results = new ArrayList<>(indexes.size());
+      for (Integer index : indexes) {
+        results.add(new EmployeeBulkJobResult(index, null, List.of("Employee could not be saved")));
+      }
+      return Boolean.TRUE.equals(transactionTemplate.execute(status -> recordChunk(status, id, processed, results)));
+    }
+  }
+
+  private boolean recordChunk(TransactionStatus status, String id, int processed, List<EmployeeBulkJobResult> results) {
+    if (repository.recordChunk(id, owner, lease, processed, results)) {
+      return true;
+    }
+    status.setRollbackOnly();
+    return false;
+  }
+
+  private List<EmployeeBulkJobResult> sorted(List<EmployeeBulkJobResult> results) {
+    results.sort(Comparator.comparingInt(EmployeeBulkJobResult::getIndex));
+    return results;
+  }
+
+  private String writePayload(List<Employee> rows) {
+    try {
+      return objectMapper.writeValueAsString(rows);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not serialize bulk job payload", ex);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.arriaga.invex.employeeservice.service;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+
+public interface EmployeeChangeListener {
+
+  void employeeSaved(Employee employee);
+
+  void employeeUpdated(Long id);
+
+  void employeeDeleted(Long id);
+}
@@ -0,0 +1,43 @@
+package com.arriaga.invex.employeeservice.service;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.function.Function;
+
+public enum EmployeeField {
+  ID("id", Employee::getId),
+  FIRST_NAME("firstName", Employee::getFirstName),
+  MIDDLE_NAME("middleName", Employee::getMiddleName),
+  LAST_NAME("lastName", Employee::getLastName),
+  SECOND_LAST_NAME("secondLastName", Employee::getSecondLastName),
+  AGE("age", Employee::getAge),
+  SEX("sex", Employee::getSex),
+  BIRTH_DATE("birthDate", Employee::getBirthDate),
+  POSITION("position", Employee::getPosition),
+  CREATED_AT("createdAt", Employee::getCreatedAt),
+  ACTIVE("active", Employee::getActive);
+
+  private final String key;
+  private final Function<Employee, Object> accessor;
+
+  EmployeeField(String key, Function<Employee, Object> accessor) {
+    this.key = key;
+    this.accessor = accessor;
+  }
+
+  public String key() {
+    return key;
+  }
+
+  public Object read(Employee employee) {
+    return accessor.apply(employee);
+  }
+
+  public static EmployeeField fromKey(String key) {
+    for (EmployeeField field : values()) {
+      if (field.key.equalsIgnoreCase(key.trim())) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported field: " + key.trim());
+  }
+}
@@ -0,0 +1,23 @@
+package com.arriaga.invex.employeeservice.service;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.List;
+
+public class EmployeeLookup {
+
+  private final List<Employee> items;
+  private final List<Long> missingIds;
+
+  public EmployeeLookup(List<Employee> items, List<Long> missingIds) {
+    this.items = items;
+    this.missingIds = missingIds;
+  }
+
+  public List<Employee> getItems() {
+    return items;
+  }
+
+  public List<Long> getMissingIds() {
+    return missingIds;
+  }
+}
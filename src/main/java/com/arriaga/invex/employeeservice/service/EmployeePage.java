@@ -0,0 +1,26 @@
+package com.arriaga.invex.employeeservice.service;
+
+import java.util.List;
+
+public class EmployeePage<T> {
+
+  private final List<T> items;
+  private final Long nextAfterId;
+
+  public EmployeePage(List<T> items, Long nextAfterId) {
+    this.items = items;
+    this.nextAfterId = nextAfterId;
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public Long getNextAfterId() {
+    return nextAfterId;
+  }
+
+  public boolean hasNext() {
+    return nextAfterId != null;
+  }
+}
@@ -1,7 +1,12 @@
 package com.arriaga.invex.employeeservice.service;
 
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import com.arriaga.invex.employeeservice.search.NameSuggestion;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
 
@@ -9,11 +14,36 @@ public interface EmployeeService {
 
   List<Employee> createAll(List<Employee> employees);
 
-  List<Employee> findAll();
+  List<Employee> importChunk(List<Employee> employees);
+
+  List<Map<String, Object>> findAllFields(EmployeeFilter filter, Set<EmployeeField> fields);
+
+  EmployeePage<Map<String, Object>> findPageFields(
+      EmployeeFilter filter, Long afterId, int limit, Set<EmployeeField> fields);
+
+  String changeStamp();
+
+  void exportAll(Consumer<Employee> consumer);
+
+  List<HeadcountGroup> headcount(Set<HeadcountDimension> groupBy);
 
   Employee getById(Long id);
 
+  EmployeeLookup findAllByIds(List<Long> ids);
+
+  Map<String, Object> getFieldsById(Long id, Set<EmployeeField> fields);
+
+  List<Long> searchIdsByName(String name, int limit, boolean fuzzy);
+
+  List<Map<String, Object>> searchFieldsByName(String name, int limit, boolean fuzzy, Set<EmployeeField> fields);
+
+  List<NameSuggestion> suggestNames(String prefix, int limit);
+
   Employee updatePartial(Long id, Employee updates);
 
+  Employee updatePartial(Long id, Employee updates, Long expectedVersion);
+
+  Employee updatePartial(Long id, Employee updates, Long expectedVersion, boolean returnUpdated);
+
   void deleteById(Long id);
 }
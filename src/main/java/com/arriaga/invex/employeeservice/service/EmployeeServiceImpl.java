@@ -1,59 +1,450 @@
 package com.arriaga.invex.employeeservice.service;
 
+import com.arriaga.invex.employeeservice.cache.EmployeeCache;
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
 import com.arriaga.invex.employeeservice.exception.EmployeeNotFoundException;
+import com.arriaga.invex.employeeservice.exception.EmployeeVersionMismatchException;
+import com.arriaga.invex.employeeservice.persistence.EmployeeChangeRepository;
+import com.arriaga.invex.employeeservice.persistence.EmployeeReadRepository;
 import com.arriaga.invex.employeeservice.persistence.EmployeeRepository;
+import com.arriaga.invex.employeeservice.persistence.EmployeeUpdateRepository;
+import com.arriaga.invex.employeeservice.persistence.HeadcountRow;
+import com.arriaga.invex.employeeservice.search.EmployeeSearchIndex;
+import com.arriaga.invex.employeeservice.search.NameSuggestion;
+import com.arriaga.invex.employeeservice.search.SearchText;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
+  static final int LOOKUP_CHUNK_SIZE = 500;
+
   private final EmployeeRepository repository;
+  private final EmployeeReadRepository readRepository;
+  private final EmployeeUpdateRepository updateRepository;
+  private final EmployeeChangeRepository changeRepository;
+  private final EntityManager entityManager;
+  private final EmployeeSearchIndex searchIndex;
+  private final EmployeeCache employeeCache;
+  private final List<EmployeeChangeListener> listeners;
+  private final TransactionTemplate primaryReads;
+  private final TransactionTemplate chunkWrites;
 
-  public EmployeeServiceImpl(EmployeeRepository repository) {
+  public EmployeeServiceImpl(
+      EmployeeRepository repository,
+      EmployeeReadRepository readRepository,
+      EmployeeUpdateRepository updateRepository,
+      EmployeeChangeRepository changeRepository,
+      EntityManager entityManager,
+      EmployeeSearchIndex searchIndex,
+      EmployeeCache employeeCache,
+      List<EmployeeChangeListener> listeners,
+      PlatformTransactionManager transactionManager) {
     this.repository = repository;
+    this.readRepository = readRepository;
+    this.updateRepository = updateRepository;
+    this.changeRepository = changeRepository;
+    this.entityManager = entityManager;
+    this.searchIndex = searchIndex;
+    this.employeeCache = employeeCache;
+    this.listeners = listeners;
+    this.primaryReads = new TransactionTemplate(transactionManager);
+    this.primaryReads.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.chunkWrites = new TransactionTemplate(transactionManager);
   }
 
   @Override
+  @Transactional
   public Employee create(Employee employee) {
     Employee normalized = normalizeForCreate(employee);
-    return repository.save(normalized);
+    Employee saved = repository.save(normalized);
+    changeRepository.increment();
+    afterCommit(() -> {
+      searchIndex.index(saved);
+      employeeCache.put(saved);
+      notifySaved(saved);
+    });
+    return saved;
   }
 
   @Override
+  @Transactional
   public List<Employee> createAll(List<Employee> employees) {
     for (Employee employee : employees) {
       normalizeForCreate(employee);
     }
-    return repository.saveAll(employees);
+    List<Employee> saved = repository.saveAll(employees);
+    changeRepository.increment();
+    afterCommit(() -> {
+      saved.forEach(searchIndex::index);
+      employeeCache.putAll(saved);
+      saved.forEach(this::notifySaved);
+    });
+    return saved;
   }
 
   @Override
-  public List<Employee> findAll() {
-    return repository.findAll();
+  public List<Employee> importChunk(List<Employee> employees) {
+    try {
+      return chunkWrites.execute(status -> createAll(employees));
+    } finally {
+      entityManager.clear();
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> findAllFields(EmployeeFilter filter, Set<EmployeeField> fields) {
+    validateFilter(filter);
+    List<Map<String, Object>> rows = readRepository.findProjected(attributesOf(fields), filter, 0L, null);
+    return stripUnrequestedId(rows, fields);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public EmployeePage<Map<String, Object>> findPageFields(
+      EmployeeFilter filter, Long afterId, int limit, Set<EmployeeField> fields) {
+    validateFilter(filter);
+    long from = afterId == null ? 0L : afterId;
+    List<Map<String, Object>> rows = readRepository.findProjected(attributesOf(fields), filter, from, limit + 1);
+    if (rows.size() <= limit) {
+      return new EmployeePage<>(stripUnrequestedId(rows, fields), null);
+    }
+    List<Map<String, Object>> items = rows.subList(0, limit);
+    Long nextAfterId = (Long) items.get(limit - 1).get(EmployeeField.ID.key());
+    return new EmployeePage<>(stripUnrequestedId(items, fields), nextAfterId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public String changeStamp() {
+    return Long.toString(changeRepository.current());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportAll(Consumer<Employee> consumer) {
+    try (Stream<Employee> rows = repository.streamAllOrderById()) {
+      int pending = 0;
+      for (Employee employee : (Iterable<Employee>) rows::iterator) {
+        consumer.accept(employee);
+        if (++pending == EmployeeRepository.STREAM_FETCH_SIZE) {
+          entityManager.clear();
+          pending = 0;
+        }
+      }
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<HeadcountGroup> headcount(Set<HeadcountDimension> groupBy) {
+    Map<List<Object>, long[]> totals = new LinkedHashMap<>();
+    for (HeadcountRow row : repository.countByPositionSexAndActive()) {
+      List<Object> key = new ArrayList<>(groupBy.size());
+      for (HeadcountDimension dimension : HeadcountDimension.values()) {
+        if (groupBy.contains(dimension)) {
+          key.add(dimensionValue(row, dimension));
+        }
+      }
+      long[] total = totals.computeIfAbsent(key, ignored -> new long[3]);
+      total[0] += valueOrZero(row.getEmployees());
+      total[1] += valueOrZero(row.getAgeSum());
+      total[2] += valueOrZero(row.getAgedEmployees());
+    }
+    List<HeadcountGroup> groups = new ArrayList<>(totals.size());
+    totals.forEach((key, total) -> groups.add(new HeadcountGroup(
+        keysOf(groupBy, key),
+        total[0],
+        total[2] == 0 ? null : (double) total[1] / total[2])));
+    return groups;
   }
 
   @Override
   public Employee getById(Long id) {
-    return repository.findById(id)
-        .orElseThrow(() -> new EmployeeNotFoundException(id));
+    return employeeCache.get(id, key -> primaryReads.execute(status -> findExisting(key)));
   }
 
   @Override
+  public EmployeeLookup findAllByIds(List<Long> ids) {
+    Map<Long, Employee> found = new LinkedHashMap<>();
+    List<Long> pending = new ArrayList<>();
+    for (Long id : ids) {
+      if (id == null || found.containsKey(id)) {
+        continue;
+      }
+      Employee cached = employeeCache.getIfPresent(id);
+      found.put(id, cached);
+      if (cached == null) {
+        pending.add(id);
+      }
+    }
+    for (int from = 0; from < pending.size(); from += LOOKUP_CHUNK_SIZE) {
+      List<Long> chunk = pending.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, pending.size()));
+      for (Employee employee : primaryReads.execute(status -> repository.findAllById(chunk))) {
+        found.put(employee.getId(), employee);
+        employeeCache.put(employee);
+      }
+    }
+    List<Employee> items = new ArrayList<>(found.size());
+    List<Long> missingIds = new ArrayList<>();
+    found.forEach((id, employee) -> {
+      if (employee == null) {
+        missingIds.add(id);
+      } else {
+        items.add(employee);
+      }
+    });
+    return new EmployeeLookup(items, missingIds);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<String, Object> getFieldsById(Long id, Set<EmployeeField> fields) {
+    List<Map<String, Object>> rows = readRepository.findProjectedByIds(attributesOf(fields), List.of(id));
+    if (rows.isEmpty()) {
+      throw new EmployeeNotFoundException(id);
+    }
+    return stripUnrequestedId(rows, fields).get(0);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Long> searchIdsByName(String name, int limit, boolean fuzzy) {
+    String term = SearchText.normalize(name);
+    if (term.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    if (!searchIndex.isReady()) {
+      return repository.searchByName(term, limit).stream()
+          .map(Employee::getId)
+          .toList();
+    }
+    return fuzzy ? searchIndex.fuzzySearch(term, limit) : searchIndex.search(term, limit);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> searchFieldsByName(
+      String name, int limit, boolean fuzzy, Set<EmployeeField> fields) {
+    String term = SearchText.normalize(name);
+    if (term.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    if (!searchIndex.isReady()) {
+      return repository.searchByName(term, limit).stream()
+          .map(employee -> project(employee, fields))
+          .toList();
+    }
+    List<Long> ids = fuzzy ? searchIndex.fuzzySearch(term, limit) : searchIndex.search(term, limit);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Integer> positions = positionsOf(ids);
+    List<Map<String, Object>> rows = readRepository.findProjectedByIds(attributesOf(fields), ids).stream()
+        .sorted(Comparator.comparing(row -> positions.get((Long) row.get(EmployeeField.ID.key()))))
+        .toList();
+    return stripUnrequestedId(rows, fields);
+  }
+
+  @Override
+  public List<NameSuggestion> suggestNames(String prefix, int limit) {
+    String normalized = SearchText.normalize(prefix);
+    if (normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    return searchIndex.suggest(normalized, limit);
+  }
+
+  @Override
+  @Transactional
   public Employee updatePartial(Long id, Employee updates) {
-    Employee existing = getById(id);
+    return updatePartial(id, updates, null);
+  }
+
+  @Override
+  @Transactional
+  public Employee updatePartial(Long id, Employee updates, Long expectedVersion) {
+    return updatePartial(id, updates, expectedVersion, true);
+  }
+
+  @Override
+  @Transactional
+  public Employee updatePartial(Long id, Employee updates, Long expectedVersion, boolean returnUpdated) {
     if (updates == null) {
-      return existing;
+      return getById(id);
+    }
+    Map<String, Object> values = inPlaceUpdates(updates);
+    if (values == null) {
+      return updateLoaded(id, updates, expectedVersion);
+    }
+    if (updateRepository.updateFields(id, values, expectedVersion) == 0) {
+      if (!repository.existsById(id)) {
+        throw new EmployeeNotFoundException(id);
+      }
+      throw new EmployeeVersionMismatchException(id);
+    }
+    changeRepository.increment();
+    if (!returnUpdated) {
+      afterCommit(() -> {
+        employeeCache.evict(id);
+        for (EmployeeChangeListener listener : listeners) {
+          listener.employeeUpdated(id);
+        }
+      });
+      return null;
+    }
+    Employee saved = findExisting(id);
+    afterCommit(() -> {
+      employeeCache.put(saved);
+      notifySaved(saved);
+    });
+    return saved;
+  }
+
+  private Employee updateLoaded(Long id, Employee updates, Long expectedVersion) {
+    Employee existing = findExisting(id);
+    if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+      throw new EmployeeVersionMismatchException(id);
     }
     applyUpdates(existing, updates);
     normalizeNames(existing);
-    return repository.save(existing);
+    Employee saved;
+    try {
+      saved = repository.saveAndFlush(existing);
+    } catch (OptimisticLockingFailureException ex) {
+      if (expectedVersion != null) {
+        throw new EmployeeVersionMismatchException(id);
+      }
+      throw ex;
+    }
+    changeRepository.increment();
+    afterCommit(() -> {
+      searchIndex.index(saved);
+      employeeCache.put(saved);
+      notifySaved(saved);
+    });
+    return saved;
   }
 
   @Override
+  @Transactional
   public void deleteById(Long id) {
     repository.deleteById(id);
+    changeRepository.increment();
+    employeeCache.evict(id);
+    searchIndex.remove(id);
+    for (EmployeeChangeListener listener : listeners) {
+      listener.employeeDeleted(id);
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private void notifySaved(Employee employee) {
+    for (EmployeeChangeListener listener : listeners) {
+      listener.employeeSaved(employee);
+    }
+  }
+
+  private Employee findExisting(Long id) {
+    return repository.findById(id)
+        .orElseThrow(() -> new EmployeeNotFoundException(id));
+  }
+
+  private Object dimensionValue(HeadcountRow row, HeadcountDimension dimension) {
+    return switch (dimension) {
+      case POSITION -> row.getPosition();
+      case SEX -> row.getSex();
+      case ACTIVE -> row.getActive();
+    };
+  }
+
+  private Map<HeadcountDimension, Object> keysOf(Set<HeadcountDimension> groupBy, List<Object> key) {
+    Map<HeadcountDimension, Object> keys = new EnumMap<>(HeadcountDimension.class);
+    int index = 0;
+    for (HeadcountDimension dimension : HeadcountDimension.values()) {
+      if (groupBy.contains(dimension)) {
+        keys.put(dimension, key.get(index++));
+      }
+    }
+    return keys;
+  }
+
+  private long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  private void validateFilter(EmployeeFilter filter) {
+    if (filter != null) {
+      filter.validate();
+    }
+  }
+
+  private Map<Long, Integer> positionsOf(List<Long> ids) {
+    Map<Long, Integer> positions = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      positions.put(ids.get(i), i);
+    }
+    return positions;
+  }
+
+  private List<String> attributesOf(Set<EmployeeField> fields) {
+    List<String> attributes = new ArrayList<>(fields.size());
+    for (EmployeeField field : EmployeeField.values()) {
+      if (fields.contains(field)) {
+        attributes.add(field.key());
+      }
+    }
+    return attributes;
+  }
+
+  private List<Map<String, Object>> stripUnrequestedId(
+      List<Map<String, Object>> rows, Set<EmployeeField> fields) {
+    if (!fields.contains(EmployeeField.ID)) {
+      rows.forEach(row -> row.remove(EmployeeField.ID.key()));
+    }
+    return rows;
+  }
+
+  private Map<String, Object> project(Employee employee, Set<EmployeeField> fields) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (EmployeeField field : EmployeeField.values()) {
+      if (fields.contains(field)) {
+        row.put(field.key(), field.read(employee));
+      }
+    }
+    return row;
   }
 
   private Employee normalizeForCreate(Employee employee) {
@@ -71,6 +462,26 @@ public class EmployeeServiceImpl implements EmployeeService {
     employee.setSecondLastName(trim(employee.getSecondLastName()));
     employee.setSex(trim(employee.getSex()));
     employee.setPosition(trim(employee.getPosition()));
+    employee.setSearchName(SearchText.fullName(
+        employee.getFirstName(),
+        employee.getMiddleName(),
+        employee.getLastName(),
+        employee.getSecondLastName()));
+  }
+
+  private Map<String, Object> inPlaceUpdates(Employee updates) {
+    if (updates.getFirstName() != null || updates.getMiddleName() != null
+        || updates.getLastName() != null || updates.getSecondLastName() != null) {
+      return null;
+    }
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (EmployeeField field : EmployeeField.values()) {
+      Object value = field.read(updates);
+      if (value != null && EmployeeUpdateRepository.supports(field.key())) {
+        values.put(field.key(), value instanceof String text ? text.trim() : value);
+      }
+    }
+    return values.isEmpty() ? null : values;
   }
 
   private void applyUpdates(Employee target, Employee updates) {
@@ -0,0 +1,22 @@
+package com.arriaga.invex.employeeservice.service;
+
+import java.util.Locale;
+
+public enum HeadcountDimension {
+  POSITION,
+  SEX,
+  ACTIVE;
+
+  public String key() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  public static HeadcountDimension fromKey(String key) {
+    for (HeadcountDimension dimension : values()) {
+      if (dimension.key().equalsIgnoreCase(key.trim())) {
+        return dimension;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported groupBy field: " + key.trim());
+  }
+}
@@ -0,0 +1,28 @@
+package com.arriaga.invex.employeeservice.service;
+
+import java.util.Map;
+
+public class HeadcountGroup {
+
+  private final Map<HeadcountDimension, Object> keys;
+  private final long count;
+  private final Double averageAge;
+
+  public HeadcountGroup(Map<HeadcountDimension, Object> keys, long count, Double averageAge) {
+    this.keys = keys;
+    this.count = count;
+    this.averageAge = averageAge;
+  }
+
+  public Map<HeadcountDimension, Object> getKeys() {
+    return keys;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public Double getAverageAge() {
+    return averageAge;
+  }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE employee_bulk_jobs ADD COLUMN owner VARCHAR(64);
+ALTER TABLE employee_bulk_jobs ADD COLUMN lease_expires_at TIMESTAMP NULL;
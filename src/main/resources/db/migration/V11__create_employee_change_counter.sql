@@ -0,0 +1,6 @@
+CREATE TABLE employee_change_counter (
+  id INT NOT NULL PRIMARY KEY,
+  changes BIGINT NOT NULL
+);
+
+INSERT INTO employee_change_counter (id, changes) VALUES (1, 0);
@@ -0,0 +1,8 @@
+ALTER TABLE employees ADD COLUMN search_name VARCHAR(403);
+
+UPDATE employees
+SET search_name = LOWER(CONCAT_WS(' ',
+  NULLIF(TRIM(first_name), ''),
+  NULLIF(TRIM(middle_name), ''),
+  NULLIF(TRIM(last_name), ''),
+  NULLIF(TRIM(second_last_name), '')));
@@ -0,0 +1,3 @@
+CREATE INDEX idx_employees_active_position ON employees (active, position);
+CREATE INDEX idx_employees_birth_date ON employees (birth_date);
+CREATE INDEX idx_employees_created_at ON employees (created_at);
@@ -0,0 +1,4 @@
+ALTER TABLE employees ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE employees SET updated_at = created_at;
@@ -0,0 +1,21 @@
+CREATE TABLE employee_bulk_jobs (
+  id VARCHAR(36) PRIMARY KEY,
+  status VARCHAR(20) NOT NULL,
+  total INT NOT NULL,
+  processed INT NOT NULL DEFAULT 0,
+  succeeded INT NOT NULL DEFAULT 0,
+  failed INT NOT NULL DEFAULT 0,
+  payload LONGTEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_employee_bulk_jobs_status ON employee_bulk_jobs (status);
+
+CREATE TABLE employee_bulk_job_results (
+  job_id VARCHAR(36) NOT NULL,
+  row_index INT NOT NULL,
+  employee_id BIGINT,
+  errors VARCHAR(2000),
+  PRIMARY KEY (job_id, row_index)
+);
@@ -32,6 +32,9 @@ class ModelCoverageTest {
     employee.setPosition("Engineer");
     employee.setCreatedAt(Instant.parse("2026-02-10T12:00:00Z"));
     employee.setActive(true);
+    employee.setSearchName("ana maria ruiz lopez");
+    employee.setUpdatedAt(Instant.parse("2026-02-11T12:00:00Z"));
+    employee.setVersion(2L);
 
     assertThat(employee.getId()).isEqualTo(1L);
     assertThat(employee.getFirstName()).isEqualTo("Ana");
@@ -44,6 +47,9 @@ class ModelCoverageTest {
     assertThat(employee.getPosition()).isEqualTo("Engineer");
     assertThat(employee.getCreatedAt()).isEqualTo(Instant.parse("2026-02-10T12:00:00Z"));
     assertThat(employee.getActive()).isTrue();
+    assertThat(employee.getSearchName()).isEqualTo("ana maria ruiz lopez");
+    assertThat(employee.getUpdatedAt()).isEqualTo(Instant.parse("2026-02-11T12:00:00Z"));
+    assertThat(employee.getVersion()).isEqualTo(2L);
   }
 
   @Test
@@ -0,0 +1,111 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeBulkJobResultResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequests;
+import com.arriaga.invex.employeeservice.api.dto.EmployeePageResponse;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobStatus;
+import com.arriaga.invex.employeeservice.service.EmployeeBulkJobService;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.List;
+import javax.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkJobControllerTest {
+
+  @Mock
+  private EmployeeBulkJobService bulkJobService;
+
+  @Captor
+  private ArgumentCaptor<List<Employee>> rowsCaptor;
+
+  @Captor
+  private ArgumentCaptor<List<EmployeeBulkJobResult>> rejectedCaptor;
+
+  private EmployeeBulkJobController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new EmployeeBulkJobController(
+        bulkJobService, Validation.buildDefaultValidatorFactory().getValidator());
+  }
+
+  @Test
+  void submitBulkJobValidatesRowsAndReturnsAcceptedWithLocation() throws Exception {
+    EmployeeCreateRequests body = new ObjectMapper().readValue(
+        "[{\"firstName\":\"Ana\",\"lastName\":\"Ruiz\",\"active\":true},{\"lastName\":\"Ruiz\",\"active\":true}]",
+        EmployeeCreateRequests.class);
+    when(bulkJobService.submit(anyList(), anyList())).thenReturn(job(EmployeeBulkJobStatus.QUEUED));
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/employees/bulk-jobs");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    try {
+      ResponseEntity<EmployeeBulkJobResponse> response = controller.submitBulkJob(body);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+      assertThat(response.getHeaders().getLocation()).hasPath("/employees/bulk-jobs/job-1");
+      assertThat(response.getBody().getStatus()).isEqualTo("QUEUED");
+      verify(bulkJobService).submit(rowsCaptor.capture(), rejectedCaptor.capture());
+      assertThat(rowsCaptor.getValue()).hasSize(2);
+      assertThat(rowsCaptor.getValue().get(0).getFirstName()).isEqualTo("Ana");
+      assertThat(rowsCaptor.getValue().get(1)).isNull();
+      assertThat(rejectedCaptor.getValue()).extracting(EmployeeBulkJobResult::getIndex).containsExactly(1);
+      assertThat(rejectedCaptor.getValue().get(0).getErrors()).containsExactly("firstName: must not be blank");
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  @Test
+  void getBulkJobReturnsProgress() {
+    when(bulkJobService.find("job-1")).thenReturn(job(EmployeeBulkJobStatus.RUNNING));
+
+    EmployeeBulkJobResponse response = controller.getBulkJob("job-1");
+
+    assertThat(response.getStatus()).isEqualTo("RUNNING");
+    assertThat(response.getProcessed()).isEqualTo(2);
+  }
+
+  @Test
+  void getBulkJobResultsPagesWithCursor() {
+    when(bulkJobService.findResults("job-1", 1L, 2)).thenReturn(new EmployeePage<>(List.of(
+        new EmployeeBulkJobResult(2, 4L, List.of()),
+        new EmployeeBulkJobResult(3, null, List.of("firstName: must not be blank"))), 3L));
+
+    EmployeePageResponse<EmployeeBulkJobResultResponse> response =
+        controller.getBulkJobResults("job-1", 2, EmployeeCursor.encode(1L));
+
+    assertThat(response.getItems()).extracting("employeeId").containsExactly(4L, null);
+    assertThat(response.getItems().get(1).getErrors()).containsExactly("firstName: must not be blank");
+    assertThat(EmployeeCursor.decode(response.getNextCursor())).isEqualTo(3L);
+    assertThatThrownBy(() -> controller.getBulkJobResults("job-1", 501, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private EmployeeBulkJob job(EmployeeBulkJobStatus status) {
+    Instant now = Instant.now();
+    return new EmployeeBulkJob("job-1", status, 3, 2, 1, 1, now, now);
+  }
+}
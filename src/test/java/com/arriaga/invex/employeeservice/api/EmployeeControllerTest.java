@@ -3,17 +3,47 @@ package com.arriaga.invex.employeeservice.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequests;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportError;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeLookupRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeLookupResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeePageResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
 import com.arriaga.invex.employeeservice.api.dto.EmployeeUpdateRequest;
+import com.arriaga.invex.employeeservice.api.dto.HeadcountGroupResponse;
+import com.arriaga.invex.employeeservice.api.dto.NameSuggestionResponse;
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import com.arriaga.invex.employeeservice.exception.EmployeeVersionMismatchException;
+import com.arriaga.invex.employeeservice.search.NameSuggestion;
+import com.arriaga.invex.employeeservice.service.EmployeeField;
+import com.arriaga.invex.employeeservice.service.EmployeeLookup;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
 import com.arriaga.invex.employeeservice.service.EmployeeService;
+import com.arriaga.invex.employeeservice.service.HeadcountDimension;
+import com.arriaga.invex.employeeservice.service.HeadcountGroup;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,10 +54,13 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest {
@@ -35,40 +68,307 @@ class EmployeeControllerTest {
   @Mock
   private EmployeeService employeeService;
 
+  @Mock
+  private EmployeeResponseQueries responseQueries;
+
   @Captor
   private ArgumentCaptor<Employee> employeeCaptor;
 
   private EmployeeController controller;
   private ObjectMapper objectMapper;
   private Validator validator;
+  private EmployeeJsonCache jsonCache;
 
   @BeforeEach
   void setUp() {
     objectMapper = new ObjectMapper();
     validator = Validation.buildDefaultValidatorFactory().getValidator();
-    controller = new EmployeeController(employeeService, objectMapper, validator);
+    objectMapper.findAndRegisterModules();
+    jsonCache = new EmployeeJsonCache(100);
+    controller = new EmployeeController(
+        employeeService,
+        responseQueries,
+        objectMapper,
+        validator,
+        jsonCache,
+        new EmployeeImporter(employeeService, objectMapper, validator, 2),
+        3);
   }
 
   @Test
-  void getAllEmployeesMapsEntities() {
-    Employee employee = new Employee();
+  void getAllEmployeesReturnsRows() {
+    EmployeeResponse employee = new EmployeeResponse();
     employee.setId(5L);
     employee.setFirstName("Ana");
     employee.setLastName("Ruiz");
     employee.setActive(true);
 
-    when(employeeService.findAll()).thenReturn(List.of(employee));
+    when(employeeService.changeStamp()).thenReturn("7");
+    when(responseQueries.findAll(null)).thenReturn(List.of(employee));
 
-    List<EmployeeResponse> responses = controller.getAllEmployees();
+    List<EmployeeResponse> responses = controller.getAllEmployees(null, getRequest(null));
 
     assertThat(responses).hasSize(1);
     assertThat(responses.get(0).getId()).isEqualTo(5L);
     assertThat(responses.get(0).getFirstName()).isEqualTo("Ana");
   }
 
+  @Test
+  void getAllEmployeesPassesFilterToQueries() {
+    EmployeeResponse employee = new EmployeeResponse();
+    employee.setId(8L);
+    employee.setActive(false);
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setActive(false);
+
+    when(employeeService.changeStamp()).thenReturn("7");
+    when(responseQueries.findAll(filter)).thenReturn(List.of(employee));
+
+    List<EmployeeResponse> responses = controller.getAllEmployees(filter, getRequest(null));
+
+    assertThat(responses).extracting(EmployeeResponse::getId).containsExactly(8L);
+  }
+
+  @Test
+  void getEmployeesPageReturnsOpaqueNextCursor() {
+    EmployeeResponse employee = new EmployeeResponse();
+    employee.setId(7L);
+    employee.setFirstName("Ana");
+    employee.setLastName("Ruiz");
+
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setActive(true);
+    when(responseQueries.findPage(filter, 3L, 1)).thenReturn(new EmployeePage<>(List.of(employee), 7L));
+
+    EmployeePageResponse<EmployeeResponse> response = controller.getEmployeesPage(1, EmployeeCursor.encode(3L), filter);
+
+    assertThat(response.getItems()).extracting(EmployeeResponse::getId).containsExactly(7L);
+    assertThat(EmployeeCursor.decode(response.getNextCursor())).isEqualTo(7L);
+  }
+
+  @Test
+  void getEmployeeByIdServesCachedBytesUntilEmployeeChanges() throws Exception {
+    Employee employee = new Employee();
+    employee.setId(3L);
+    employee.setVersion(1L);
+    employee.setFirstName("Ana");
+    employee.setBirthDate(LocalDate.of(1990, 2, 1));
+    Employee reloaded = new Employee();
+    reloaded.setId(3L);
+    reloaded.setVersion(1L);
+    reloaded.setFirstName("Ana");
+    reloaded.setBirthDate(LocalDate.of(1990, 2, 1));
+    when(employeeService.getById(3L)).thenReturn(employee, reloaded);
+
+    byte[] first = controller.getEmployeeById(3L, getRequest(null)).getBody();
+    byte[] second = controller.getEmployeeById(3L, getRequest(null)).getBody();
+
+    assertThat(second).isSameAs(first);
+    JsonNode json = objectMapper.readTree(first);
+    assertThat(json.get("firstName").asText()).isEqualTo("Ana");
+    assertThat(json.get("birthDate").asText()).isEqualTo("01-02-1990");
+
+    jsonCache.employeeSaved(employee);
+
+    assertThat(controller.getEmployeeById(3L, getRequest(null)).getBody()).isNotSameAs(first).isEqualTo(first);
+
+    Employee renamed = new Employee();
+    renamed.setId(3L);
+    renamed.setVersion(2L);
+    renamed.setFirstName("Eva");
+    when(employeeService.getById(3L)).thenReturn(renamed);
+
+    assertThat(objectMapper.readTree(controller.getEmployeeById(3L, getRequest(null)).getBody())
+        .get("firstName").asText()).isEqualTo("Eva");
+  }
+
+  @Test
+  void getEmployeeByIdAnswersNotModifiedForCurrentVersion() {
+    Employee employee = new Employee();
+    employee.setId(3L);
+    employee.setVersion(4L);
+    when(employeeService.getById(3L)).thenReturn(employee);
+
+    ServletWebRequest fresh = getRequest(null);
+    controller.getEmployeeById(3L, fresh);
+    ServletWebRequest current = getRequest("\"3-4\"");
+    ServletWebRequest stale = getRequest("\"3-3\"");
+
+    assertThat(fresh.getResponse().getHeader("ETag")).isEqualTo("\"3-4\"");
+    assertThat(fresh.getResponse().getHeader("Vary")).isEqualTo("Accept");
+    assertThat(controller.getEmployeeById(3L, current)).isNull();
+    assertThat(current.getResponse().getStatus()).isEqualTo(304);
+    assertThat(controller.getEmployeeById(3L, stale).getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void getEmployeeBinaryByIdTagsEtagWithNegotiatedFormat() {
+    Employee employee = new Employee();
+    employee.setId(3L);
+    employee.setVersion(2L);
+    employee.setFirstName("Ana");
+    when(employeeService.getById(3L)).thenReturn(employee);
+
+    ServletWebRequest cbor = getRequest(null, "application/cbor");
+    ResponseEntity<EmployeeResponse> response = controller.getEmployeeBinaryById(3L, cbor);
+    ServletWebRequest smile = getRequest(null, "application/json;q=0.5, application/x-jackson-smile");
+    controller.getEmployeeBinaryById(3L, smile);
+
+    assertThat(response.getBody().getFirstName()).isEqualTo("Ana");
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+    assertThat(cbor.getResponse().getHeader("ETag")).isEqualTo("\"3-2-cbor\"");
+    assertThat(cbor.getResponse().getHeader("Vary")).isEqualTo("Accept");
+    assertThat(smile.getResponse().getHeader("ETag")).isEqualTo("\"3-2-smile\"");
+    assertThat(controller.getEmployeeBinaryById(3L, getRequest("\"3-2-cbor\"", "application/cbor"))).isNull();
+    assertThat(controller.getEmployeeBinaryById(3L, getRequest("\"3-2\"", "application/cbor"))).isNotNull();
+  }
+
+  @Test
+  void getAllEmployeesSkipsLoadingWhenTableUnchanged() {
+    when(employeeService.changeStamp()).thenReturn("8");
+
+    ServletWebRequest request = getRequest("\"c-8\"");
+
+    assertThat(controller.getAllEmployees(null, request)).isNull();
+    assertThat(request.getResponse().getStatus()).isEqualTo(304);
+    verify(responseQueries, never()).findAll(any());
+  }
+
+  @Test
+  void getAllEmployeesTagsEtagWithNegotiatedFormat() {
+    when(employeeService.changeStamp()).thenReturn("8");
+    when(responseQueries.findAll(null)).thenReturn(List.of());
+
+    ServletWebRequest json = getRequest(null, "application/cbor;q=0.5, */*");
+    controller.getAllEmployees(null, json);
+    ServletWebRequest cbor = getRequest(null, "application/cbor");
+    controller.getAllEmployees(null, cbor);
+    ServletWebRequest smile = getRequest(null, "application/json;q=0.5, application/x-jackson-smile");
+    controller.getAllEmployees(null, smile);
+
+    assertThat(json.getResponse().getHeader("ETag")).isEqualTo("\"c-8\"");
+    assertThat(cbor.getResponse().getHeader("ETag")).isEqualTo("\"c-8-cbor\"");
+    assertThat(cbor.getResponse().getHeader("Vary")).isEqualTo("Accept");
+    assertThat(smile.getResponse().getHeader("ETag")).isEqualTo("\"c-8-smile\"");
+    assertThat(controller.getAllEmployees(null, getRequest("\"c-8\"", "application/cbor"))).isNotNull();
+    assertThat(controller.getAllEmployees(null, getRequest("\"c-8-cbor\"", "application/cbor"))).isNull();
+  }
+
+  @Test
+  void searchEmployeesByNameTagsEtagWithNegotiatedFormat() {
+    when(employeeService.changeStamp()).thenReturn("8");
+    when(responseQueries.searchByName("ana", 20, false)).thenReturn(List.of());
+
+    ServletWebRequest smile = getRequest("\"c-8\"", "application/x-jackson-smile");
+
+    assertThat(controller.searchEmployeesByName("ana", 20, false, smile)).isNotNull();
+    assertThat(smile.getResponse().getHeader("ETag")).isEqualTo("\"c-8-smile\"");
+    assertThat(controller.searchEmployeesByName("ana", 20, false, getRequest("\"c-8-smile\"", "application/x-jackson-smile")))
+        .isNull();
+  }
+
+  @Test
+  void getEmployeeFieldsByIdParsesFieldsAndFormatsBirthDate() {
+    Map<String, Object> row = new HashMap<>();
+    row.put("birthDate", LocalDate.of(1990, 2, 1));
+    when(employeeService.getFieldsById(3L, EnumSet.of(EmployeeField.ID, EmployeeField.BIRTH_DATE)))
+        .thenReturn(row);
+
+    Map<String, Object> response = controller.getEmployeeFieldsById(3L, List.of("birthDate", " id"));
+
+    assertThat(response).containsEntry("birthDate", "01-02-1990");
+  }
+
+  @Test
+  void sparseFieldsRejectUnknownOrEmptySelection() {
+    assertThatThrownBy(() -> controller.getAllEmployeesFields(List.of("salary"), null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("salary");
+    assertThatThrownBy(() -> controller.getAllEmployeesFields(List.of(" "), null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("fields");
+  }
+
+  @Test
+  void getEmployeesByIdsReturnsItemsAndMissingIds() {
+    Employee employee = new Employee();
+    employee.setId(2L);
+    when(employeeService.findAllByIds(List.of(2L, 9L))).thenReturn(new EmployeeLookup(List.of(employee), List.of(9L)));
+
+    EmployeeLookupResponse response = controller.getEmployeesByIds(List.of(2L, 9L));
+
+    assertThat(response.getItems()).extracting(EmployeeResponse::getId).containsExactly(2L);
+    assertThat(response.getMissingIds()).containsExactly(9L);
+  }
+
+  @Test
+  void lookupEmployeesEnforcesIdCap() {
+    EmployeeLookupRequest request = new EmployeeLookupRequest();
+    request.setIds(List.of(1L, 2L, 3L, 4L));
+
+    assertThatThrownBy(() -> controller.lookupEmployees(request))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("3");
+  }
+
+  @Test
+  void getEmployeesPageRejectsOutOfRangeLimit() {
+    assertThatThrownBy(() -> controller.getEmployeesPage(0, null, new EmployeeFilter()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("limit");
+  }
+
+  @Test
+  void exportEmployeesWritesOneJsonObjectPerLine() throws Exception {
+    Employee ana = new Employee();
+    ana.setId(1L);
+    ana.setFirstName("Ana");
+    Employee luis = new Employee();
+    luis.setId(2L);
+    luis.setFirstName("Luis");
+
+    doAnswer(invocation -> {
+      Consumer<Employee> consumer = invocation.getArgument(0);
+      consumer.accept(ana);
+      consumer.accept(luis);
+      return null;
+    }).when(employeeService).exportAll(any());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    controller.exportEmployees(response);
+
+    assertThat(response.getContentType()).startsWith(EmployeeController.NDJSON_VALUE);
+    String[] lines = response.getContentAsString().split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readTree(lines[0]).get("firstName").asText()).isEqualTo("Ana");
+    assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+  }
+
+  @Test
+  void exportEmployeesCsvWritesHeaderAndOneRowPerEmployee() throws Exception {
+    Employee ana = new Employee();
+    ana.setId(1L);
+    ana.setFirstName("Ana");
+    ana.setActive(true);
+
+    doAnswer(invocation -> {
+      Consumer<Employee> consumer = invocation.getArgument(0);
+      consumer.accept(ana);
+      return null;
+    }).when(employeeService).exportAll(any());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    controller.exportEmployeesCsv(response);
+
+    assertThat(response.getContentType()).startsWith(EmployeeController.CSV_VALUE);
+    assertThat(response.getContentAsString().split("\n")).containsExactly(
+        "id,firstName,middleName,lastName,secondLastName,age,sex,birthDate,position,createdAt,active",
+        "1,Ana,,,,,,,,,true");
+  }
+
   @Test
   void createEmployeesCreatesSingleAndReturnsLocation() throws Exception {
-    JsonNode body = objectMapper.readTree("{\"firstName\":\"Ana\",\"lastName\":\"Ruiz\",\"active\":true}");
+    EmployeeCreateRequests body = createRequests("{\"firstName\":\"Ana\",\"lastName\":\"Ruiz\",\"active\":true}");
     when(employeeService.create(any(Employee.class))).thenAnswer(invocation -> {
       Employee saved = invocation.getArgument(0);
       saved.setId(10L);
@@ -89,7 +389,7 @@ class EmployeeControllerTest {
 
   @Test
   void createEmployeesCreatesBatch() throws Exception {
-    JsonNode body = objectMapper.readTree("[" +
+    EmployeeCreateRequests body = createRequests("[" +
         "{\"firstName\":\"Ana\",\"lastName\":\"Ruiz\",\"active\":true}," +
         "{\"firstName\":\"Luis\",\"lastName\":\"Diaz\",\"active\":true}" +
         "]");
@@ -111,7 +411,7 @@ class EmployeeControllerTest {
 
   @Test
   void createEmployeesRejectsEmptyArray() throws Exception {
-    JsonNode body = objectMapper.readTree("[]");
+    EmployeeCreateRequests body = createRequests("[]");
 
     assertThatThrownBy(() -> controller.createEmployees(body))
         .isInstanceOf(IllegalArgumentException.class)
@@ -120,13 +420,23 @@ class EmployeeControllerTest {
 
   @Test
   void createEmployeesRejectsInvalidPayload() throws Exception {
-    JsonNode body = objectMapper.readTree("123");
-
-    assertThatThrownBy(() -> controller.createEmployees(body))
+    assertThatThrownBy(() -> createRequests("123"))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("object or array");
   }
 
+  @Test
+  void importEmployeesStreamsBodyThroughImporter() throws Exception {
+    when(employeeService.importChunk(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    byte[] body = ("[{\"firstName\":\"Ana\",\"lastName\":\"Ruiz\",\"active\":true},"
+        + "{\"firstName\":\"Luis\",\"active\":true}]").getBytes(StandardCharsets.UTF_8);
+
+    EmployeeImportResponse response = controller.importEmployees(new ByteArrayInputStream(body));
+
+    assertThat(response.getImported()).isEqualTo(1);
+    assertThat(response.getErrors()).extracting(EmployeeImportError::getIndex).containsExactly(1);
+  }
+
   @Test
   void updateEmployeeMapsRequestFields() {
     EmployeeUpdateRequest request = new EmployeeUpdateRequest();
@@ -140,17 +450,61 @@ class EmployeeControllerTest {
     updated.setLastName("Ruiz");
     updated.setActive(true);
 
-    when(employeeService.updatePartial(any(Long.class), any(Employee.class))).thenReturn(updated);
+    when(employeeService.updatePartial(any(Long.class), any(Employee.class), isNull(), eq(true))).thenReturn(updated);
 
-    EmployeeResponse response = controller.updateEmployee(4L, request);
+    EmployeeResponse response = controller.updateEmployee(4L, null, null, request).getBody();
 
-    verify(employeeService).updatePartial(any(Long.class), employeeCaptor.capture());
+    verify(employeeService).updatePartial(any(Long.class), employeeCaptor.capture(), isNull(), eq(true));
     assertThat(employeeCaptor.getValue().getFirstName()).isEqualTo("Ana");
     assertThat(employeeCaptor.getValue().getLastName()).isEqualTo("Ruiz");
     assertThat(employeeCaptor.getValue().getActive()).isTrue();
     assertThat(response.getId()).isEqualTo(4L);
   }
 
+  @Test
+  void updateEmployeePassesIfMatchVersionAndReturnsNewEtag() {
+    Employee updated = new Employee();
+    updated.setId(4L);
+    updated.setVersion(3L);
+    when(employeeService.updatePartial(eq(4L), any(Employee.class), eq(2L), eq(true))).thenReturn(updated);
+
+    ResponseEntity<EmployeeResponse> response =
+        controller.updateEmployee(4L, "\"4-2\"", null, new EmployeeUpdateRequest());
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"4-3\"");
+    controller.updateEmployee(4L, "\"4-2-cbor\"", null, new EmployeeUpdateRequest());
+    verify(employeeService, times(2)).updatePartial(eq(4L), any(Employee.class), eq(2L), eq(true));
+  }
+
+  @Test
+  void updateEmployeeWithReturnMinimalAnswersNoContentWithoutReadingBack() {
+    EmployeeUpdateRequest request = new EmployeeUpdateRequest();
+    request.setAge(31);
+
+    ResponseEntity<EmployeeResponse> versioned =
+        controller.updateEmployee(4L, "\"4-2\"", "respond-async, return=minimal", request);
+    ResponseEntity<EmployeeResponse> unversioned = controller.updateEmployee(4L, null, "return=minimal", request);
+
+    verify(employeeService).updatePartial(eq(4L), any(Employee.class), eq(2L), eq(false));
+    assertThat(versioned.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(versioned.getBody()).isNull();
+    assertThat(versioned.getHeaders().getFirst("Preference-Applied")).isEqualTo("return=minimal");
+    assertThat(versioned.getHeaders().getETag()).isEqualTo("\"4-3\"");
+    assertThat(unversioned.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(unversioned.getHeaders().getETag()).isNull();
+  }
+
+  @Test
+  void updateEmployeeRejectsIfMatchForOtherResourceOrWeakTag() {
+    EmployeeUpdateRequest request = new EmployeeUpdateRequest();
+
+    assertThatThrownBy(() -> controller.updateEmployee(4L, "\"5-2\"", null, request))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+    assertThatThrownBy(() -> controller.updateEmployee(4L, "W/\"4-2\"", null, request))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+    verify(employeeService, never()).updatePartial(any(Long.class), any(Employee.class), any(), anyBoolean());
+  }
+
   @Test
   void deleteEmployeeCallsService() {
     ResponseEntity<Void> response = controller.deleteEmployee(7L);
@@ -160,19 +514,94 @@ class EmployeeControllerTest {
   }
 
   @Test
-  void searchEmployeesByNameMatchesCaseInsensitive() {
-    Employee ana = new Employee();
+  void searchEmployeesByNameDelegatesToQueries() {
+    EmployeeResponse ana = new EmployeeResponse();
     ana.setFirstName("Ana");
     ana.setLastName("Ruiz");
-    Employee maria = new Employee();
-    maria.setFirstName("Maria");
-    maria.setLastName("Lopez");
 
-    when(employeeService.findAll()).thenReturn(List.of(ana, maria));
+    when(responseQueries.searchByName("  aNa ", 20, false)).thenReturn(List.of(ana));
 
-    List<EmployeeResponse> responses = controller.searchEmployeesByName("  aNa ");
+    List<EmployeeResponse> responses = controller.searchEmployeesByName("  aNa ", 20, false, getRequest(null));
 
     assertThat(responses).hasSize(1);
     assertThat(responses.get(0).getFirstName()).isEqualTo("Ana");
+    verify(employeeService, never()).changeStamp();
+  }
+
+  @Test
+  void searchEmployeesByNameChecksChangeStampOnlyForConditionalRequests() {
+    when(employeeService.changeStamp()).thenReturn("8");
+
+    ServletWebRequest request = getRequest("\"c-8\"");
+
+    assertThat(controller.searchEmployeesByName("ana", 20, false, request)).isNull();
+    assertThat(request.getResponse().getStatus()).isEqualTo(304);
+    verify(responseQueries, never()).searchByName(any(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  void searchEmployeesByNameRejectsUnboundedLimit() {
+    assertThatThrownBy(() -> controller.searchEmployeesByName("ana", 1000, false, getRequest(null)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("limit");
+  }
+
+  @Test
+  void autocompleteNamesMapsSuggestions() {
+    when(employeeService.suggestNames("mar", 5)).thenReturn(List.of(new NameSuggestion("maria", 3)));
+
+    List<NameSuggestionResponse> responses = controller.autocompleteNames("mar", 5);
+
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getValue()).isEqualTo("maria");
+    assertThat(responses.get(0).getCount()).isEqualTo(3);
+  }
+
+  @Test
+  void autocompleteNamesRejectsLimitAboveTopK() {
+    assertThatThrownBy(() -> controller.autocompleteNames("mar", 50))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("limit");
+  }
+
+  @Test
+  void getHeadcountStatsParsesGroupByFields() {
+    HeadcountGroup group = new HeadcountGroup(Map.of(HeadcountDimension.ACTIVE, true), 5L, 31.5);
+    when(employeeService.headcount(EnumSet.of(HeadcountDimension.ACTIVE, HeadcountDimension.SEX)))
+        .thenReturn(List.of(group));
+
+    List<HeadcountGroupResponse> responses = controller.getHeadcountStats(List.of("Active", " sex "));
+
+    assertThat(responses).singleElement().satisfies(response -> {
+      assertThat(response.getGroup()).containsEntry("active", true);
+      assertThat(response.getCount()).isEqualTo(5L);
+      assertThat(response.getAverageAge()).isEqualTo(31.5);
+    });
+  }
+
+  @Test
+  void getHeadcountStatsRejectsUnknownField() {
+    assertThatThrownBy(() -> controller.getHeadcountStats(List.of("salary")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("salary");
+  }
+
+  private EmployeeCreateRequests createRequests(String json) throws Exception {
+    return objectMapper.readValue(json, EmployeeCreateRequests.class);
+  }
+
+  private ServletWebRequest getRequest(String ifNoneMatch) {
+    return getRequest(ifNoneMatch, null);
+  }
+
+  private ServletWebRequest getRequest(String ifNoneMatch, String accept) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+    if (ifNoneMatch != null) {
+      request.addHeader("If-None-Match", ifNoneMatch);
+    }
+    if (accept != null) {
+      request.addHeader("Accept", accept);
+    }
+    return new ServletWebRequest(request, new MockHttpServletResponse());
   }
 }
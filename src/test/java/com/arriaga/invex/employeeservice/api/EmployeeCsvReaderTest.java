@@ -0,0 +1,110 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCsvReaderTest {
+
+  @Test
+  void readsQuotedFieldsEscapedQuotesAndCrlf() throws Exception {
+    EmployeeCsvReader reader = reader("a,\"b, \"\"c\"\"\",,d\r\n\r\n\"multi\nline\",x\n");
+
+    assertThat(reader.next()).isTrue();
+    assertThat(reader.line()).isEqualTo(1);
+    assertThat(reader.fieldCount()).isEqualTo(4);
+    assertThat(reader.text(0)).isEqualTo("a");
+    assertThat(reader.text(1)).isEqualTo("b, \"c\"");
+    assertThat(reader.text(2)).isNull();
+    assertThat(reader.text(3)).isEqualTo("d");
+
+    assertThat(reader.next()).isTrue();
+    assertThat(reader.line()).isEqualTo(3);
+    assertThat(reader.text(0)).isEqualTo("multi\nline");
+    assertThat(reader.next()).isFalse();
+  }
+
+  @Test
+  void parsesTypedFieldsWithoutDecodingText() throws Exception {
+    EmployeeCsvReader reader = reader("42,-7,TRUE,false,01-02-1990,4x,31-02-1990,yes");
+
+    assertThat(reader.next()).isTrue();
+    assertThat(reader.integer(0)).isEqualTo(42);
+    assertThat(reader.integer(1)).isEqualTo(-7);
+    assertThat(reader.bool(2)).isTrue();
+    assertThat(reader.bool(3)).isFalse();
+    assertThat(reader.date(4)).isEqualTo(LocalDate.of(1990, 2, 1));
+    assertThatThrownBy(() -> reader.integer(5)).isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> reader.date(6)).isInstanceOf(DateTimeException.class);
+    assertThatThrownBy(() -> reader.bool(7)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(reader.integer(8)).isNull();
+  }
+
+  @Test
+  void readsRecordsSpanningBufferRefills() throws Exception {
+    StringBuilder csv = new StringBuilder();
+    String longValue = "x".repeat(EmployeeCsvReader.BUFFER_SIZE);
+    csv.append("\"").append(longValue).append("\",1\n");
+    for (int i = 0; i < 20_000; i++) {
+      csv.append("name").append(i).append(",\"q\"\"").append(i).append("\"\n");
+    }
+    EmployeeCsvReader reader = new EmployeeCsvReader(new TrickleInputStream(csv.toString()));
+
+    assertThat(reader.next()).isTrue();
+    assertThat(reader.text(0)).isEqualTo(longValue);
+    int rows = 0;
+    while (reader.next()) {
+      assertThat(reader.text(0)).isEqualTo("name" + rows);
+      assertThat(reader.text(1)).isEqualTo("q\"" + rows);
+      rows++;
+    }
+    assertThat(rows).isEqualTo(20_000);
+  }
+
+  @Test
+  void unterminatedQuoteFailsWithLine() throws Exception {
+    EmployeeCsvReader reader = reader("a\n\"open,b\n");
+
+    assertThat(reader.next()).isTrue();
+    assertThatThrownBy(reader::next)
+        .isInstanceOf(EOFException.class)
+        .hasMessageContaining("line 2");
+  }
+
+  private EmployeeCsvReader reader(String csv) {
+    return new EmployeeCsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static final class TrickleInputStream extends InputStream {
+
+    private final byte[] bytes;
+    private int position;
+
+    private TrickleInputStream(String value) {
+      this.bytes = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() {
+      return position < bytes.length ? bytes[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+      if (position >= bytes.length) {
+        return -1;
+      }
+      int count = Math.min(Math.min(length, 7_919), bytes.length - position);
+      System.arraycopy(bytes, position, target, offset, count);
+      position += count;
+      return count;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCsvWriterTest {
+
+  @Test
+  void writesHeaderAndQuotesOnlyWhenNeeded() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    EmployeeCsvWriter writer = new EmployeeCsvWriter(output);
+
+    writer.writeHeader();
+    writer.write(employee(7L, "Ana", "Ruiz, \"la\"", "Núñez"));
+    writer.flush();
+
+    assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+        "id,firstName,middleName,lastName,secondLastName,age,sex,birthDate,position,createdAt,active\n"
+            + "7,Ana,,\"Ruiz, \"\"la\"\"\",\"Núñez\",-1,,05-03-1990,Dev,2024-01-02T03:04:05Z,true\n");
+  }
+
+  @Test
+  void outputReadsBackThroughCsvReaderAcrossBufferBoundaries() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    EmployeeCsvWriter writer = new EmployeeCsvWriter(output);
+    int rows = EmployeeCsvWriter.BUFFER_SIZE / 10;
+    for (int i = 0; i < rows; i++) {
+      writer.write(employee((long) i, "First" + i, "Last\n" + i, null));
+    }
+    writer.flush();
+
+    EmployeeCsvReader reader = new EmployeeCsvReader(new ByteArrayInputStream(output.toByteArray()));
+    for (int i = 0; i < rows; i++) {
+      assertThat(reader.next()).isTrue();
+      assertThat(reader.integer(0)).isEqualTo(i);
+      assertThat(reader.text(3)).isEqualTo("Last\n" + i);
+      assertThat(reader.date(7)).isEqualTo(LocalDate.of(1990, 3, 5));
+      assertThat(reader.bool(10)).isTrue();
+    }
+    assertThat(reader.next()).isFalse();
+  }
+
+  @Test
+  void writesCreatedAtLikeInstantToString() throws Exception {
+    for (String value : new String[] {"2024-01-02T03:04:05Z", "1999-12-31T23:59:59.120Z",
+        "2024-02-29T00:00:00.000123Z", "2024-02-29T00:00:00.000000007Z"}) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      EmployeeCsvWriter writer = new EmployeeCsvWriter(output);
+      Employee employee = new Employee();
+      employee.setCreatedAt(Instant.parse(value));
+
+      writer.write(employee);
+      writer.flush();
+
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(",,,,,,,,," + Instant.parse(value) + ",\n");
+    }
+  }
+
+  private Employee employee(Long id, String firstName, String lastName, String secondLastName) {
+    Employee employee = new Employee();
+    employee.setId(id);
+    employee.setFirstName(firstName);
+    employee.setLastName(lastName);
+    employee.setSecondLastName(secondLastName);
+    employee.setAge(-1);
+    employee.setBirthDate(LocalDate.of(1990, 3, 5));
+    employee.setPosition("Dev");
+    employee.setCreatedAt(Instant.parse("2024-01-02T03:04:05Z"));
+    employee.setActive(true);
+    return employee;
+  }
+}
@@ -0,0 +1,31 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class EmployeeCursorTest {
+
+  @Test
+  void roundTripsLastId() {
+    String cursor = EmployeeCursor.encode(42L);
+
+    assertThat(cursor).doesNotContain("42");
+    assertThat(EmployeeCursor.decode(cursor)).isEqualTo(42L);
+  }
+
+  @Test
+  void treatsMissingCursorAsFirstPage() {
+    assertThat(EmployeeCursor.encode(null)).isNull();
+    assertThat(EmployeeCursor.decode(null)).isNull();
+    assertThat(EmployeeCursor.decode(" ")).isNull();
+  }
+
+  @Test
+  void rejectsTamperedCursor() {
+    assertThatThrownBy(() -> EmployeeCursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid cursor");
+  }
+}
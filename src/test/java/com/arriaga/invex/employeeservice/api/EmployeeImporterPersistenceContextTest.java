@@ -0,0 +1,57 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest(properties = "employee.import.chunk-size=3")
+class EmployeeImporterPersistenceContextTest {
+
+  @Autowired
+  private EmployeeImporter importer;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private EntityManager requestEntityManager;
+
+  @BeforeEach
+  void openEntityManagerInView() {
+    requestEntityManager = entityManagerFactory.createEntityManager();
+    TransactionSynchronizationManager.bindResource(
+        entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+  }
+
+  @AfterEach
+  void closeEntityManagerInView() {
+    TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+    requestEntityManager.close();
+  }
+
+  @Test
+  void importLeavesNoEntitiesInTheRequestPersistenceContext() throws Exception {
+    StringJoiner body = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < 10; i++) {
+      body.add("{\"firstName\":\"Context" + i + "\",\"lastName\":\"Ruiz\",\"active\":true}");
+    }
+
+    EmployeeImportResponse response = importer.importJson(
+        new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(response.getImported()).isEqualTo(10);
+    assertThat(requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+  }
+}
@@ -0,0 +1,152 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportError;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImporterTest {
+
+  @Mock
+  private EmployeeService employeeService;
+
+  private EmployeeImporter importer;
+  private List<List<String>> savedChunks;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+    importer = new EmployeeImporter(
+        employeeService, objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    savedChunks = new ArrayList<>();
+  }
+
+  @Test
+  void importsArrayInChunksAndReportsInvalidRecords() throws Exception {
+    recordSavedChunks();
+
+    EmployeeImportResponse response = importer.importJson(body("["
+        + employee("Ana") + ","
+        + "{\"firstName\":\"\",\"lastName\":\"Ruiz\",\"active\":true},"
+        + employee("Luis") + ","
+        + "{\"firstName\":\"Eva\",\"age\":\"old\",\"lastName\":{\"x\":[1,{\"y\":2}]},\"active\":true},"
+        + "42,"
+        + "[" + employee("Leo") + "],"
+        + employee("Sara")
+        + "]"));
+
+    assertThat(savedChunks).containsExactly(List.of("Ana", "Luis"), List.of("Sara"));
+    assertThat(response.getReceived()).isEqualTo(7);
+    assertThat(response.getImported()).isEqualTo(3);
+    assertThat(response.getFailed()).isEqualTo(4);
+    assertThat(response.getErrors()).extracting(EmployeeImportError::getIndex).containsExactly(1, 3, 4, 5);
+    assertThat(response.getErrors().get(0).getDetails()).containsExactly("firstName: must not be blank");
+    assertThat(response.getErrors().get(1).getDetails()).containsExactly("age: invalid value");
+    assertThat(response.getErrors().get(3).getDetails()).containsExactly("Expected an employee object");
+    assertThat(response.isErrorsTruncated()).isFalse();
+  }
+
+  @Test
+  void importsNewlineDelimitedObjects() throws Exception {
+    recordSavedChunks();
+
+    EmployeeImportResponse response = importer.importJson(body(employee("Ana") + "\n" + employee("Luis") + "\n"));
+
+    assertThat(savedChunks).containsExactly(List.of("Ana", "Luis"));
+    assertThat(response.getImported()).isEqualTo(2);
+  }
+
+  @Test
+  void malformedJsonStopsAfterSavingValidRecords() throws Exception {
+    recordSavedChunks();
+
+    EmployeeImportResponse response = importer.importJson(body("[" + employee("Ana") + ",{\"firstName\":"));
+
+    assertThat(savedChunks).containsExactly(List.of("Ana"));
+    assertThat(response.getFailed()).isEqualTo(1);
+    assertThat(response.getErrors().get(0).getIndex()).isEqualTo(1);
+    assertThat(response.getErrors().get(0).getDetails().get(0)).startsWith("Malformed JSON");
+  }
+
+  @Test
+  void failedChunkReportsEachRecord() throws Exception {
+    when(employeeService.importChunk(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+    EmployeeImportResponse response = importer.importJson(body("[" + employee("Ana") + "," + employee("Luis") + "]"));
+
+    assertThat(response.getImported()).isZero();
+    assertThat(response.getErrors()).extracting(EmployeeImportError::getIndex).containsExactly(0, 1);
+    verify(employeeService, times(1)).importChunk(anyList());
+  }
+
+  @Test
+  void importsCsvByHeaderAndReportsInvalidRows() throws Exception {
+    recordSavedChunks();
+
+    EmployeeImportResponse response = importer.importCsv(body("\uFEFFid,lastName,firstName,age,active\r\n"
+        + "9,Ruiz,Ana,30,true\r\n"
+        + ",Ruiz,Luis,old,true\r\n"
+        + ",Ruiz,Eva,,false\r\n"
+        + ",Ruiz,Sara,,true,extra\r\n"));
+
+    assertThat(savedChunks).containsExactly(List.of("Ana", "Eva"));
+    assertThat(response.getReceived()).isEqualTo(4);
+    assertThat(response.getErrors()).extracting(EmployeeImportError::getIndex).containsExactly(1, 3);
+    assertThat(response.getErrors().get(0).getDetails()).containsExactly("age: invalid value");
+  }
+
+  @Test
+  void rejectsUnknownCsvColumn() {
+    assertThatThrownBy(() -> importer.importCsv(body("firstName,salary\nAna,10\n")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("salary");
+    verify(employeeService, never()).importChunk(anyList());
+  }
+
+  @Test
+  void rejectsScalarBody() {
+    assertThatThrownBy(() -> importer.importJson(body("\"employees\"")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("object or array");
+    verify(employeeService, never()).importChunk(anyList());
+  }
+
+  private void recordSavedChunks() {
+    when(employeeService.importChunk(anyList())).thenAnswer(invocation -> {
+      List<Employee> employees = invocation.getArgument(0);
+      savedChunks.add(employees.stream().map(Employee::getFirstName).toList());
+      return employees;
+    });
+  }
+
+  private String employee(String firstName) {
+    return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"Ruiz\",\"active\":true}";
+  }
+
+  private InputStream body(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
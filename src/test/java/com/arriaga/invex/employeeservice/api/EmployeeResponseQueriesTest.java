@@ -0,0 +1,115 @@
+package com.arriaga.invex.employeeservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import com.arriaga.invex.employeeservice.persistence.EmployeeReadRepository;
+import com.arriaga.invex.employeeservice.service.EmployeePage;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeResponseQueriesTest {
+
+  @Mock
+  private EmployeeService employeeService;
+
+  private EmployeeResponseQueries queries;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:responses-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+    queries = new EmployeeResponseQueries(
+        new EmployeeReadRepository(new NamedParameterJdbcTemplate(dataSource)), employeeService);
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    String insert = "INSERT INTO employees (id, first_name, middle_name, last_name, second_last_name, age, sex, "
+        + "birth_date, position, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    jdbc.update(insert, 1L, "Ana", "Maria", "Ruiz", "Gomez", 30, "F", LocalDate.of(1994, 3, 1), "Engineer", true);
+    jdbc.update(insert, 2L, "Luis", null, "Perez", null, 45, "M", null, "Engineer", false);
+    jdbc.update(insert, 3L, "Eva", null, "Diaz", null, 28, "F", null, "Designer", true);
+  }
+
+  @Test
+  void findAllMapsRowsStraightIntoResponses() {
+    List<EmployeeResponse> responses = queries.findAll(null);
+
+    assertThat(responses).extracting(EmployeeResponse::getFirstName).containsExactly("Ana", "Luis", "Eva");
+    EmployeeResponse ana = responses.get(0);
+    assertThat(ana.getId()).isEqualTo(1L);
+    assertThat(ana.getMiddleName()).isEqualTo("Maria");
+    assertThat(ana.getSecondLastName()).isEqualTo("Gomez");
+    assertThat(ana.getAge()).isEqualTo(30);
+    assertThat(ana.getSex()).isEqualTo("F");
+    assertThat(ana.getBirthDate()).isEqualTo(LocalDate.of(1994, 3, 1));
+    assertThat(ana.getPosition()).isEqualTo("Engineer");
+    assertThat(ana.getCreatedAt()).isNotNull();
+    assertThat(ana.getActive()).isTrue();
+    assertThat(responses.get(1).getActive()).isFalse();
+    assertThat(responses.get(1).getBirthDate()).isNull();
+  }
+
+  @Test
+  void findPageFetchesOneExtraRowToDetectNextPage() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setPosition("Engineer");
+
+    EmployeePage<EmployeeResponse> first = queries.findPage(filter, null, 1);
+    EmployeePage<EmployeeResponse> last = queries.findPage(filter, first.getNextAfterId(), 1);
+
+    assertThat(first.getItems()).extracting(EmployeeResponse::getId).containsExactly(1L);
+    assertThat(first.getNextAfterId()).isEqualTo(1L);
+    assertThat(last.getItems()).extracting(EmployeeResponse::getId).containsExactly(2L);
+    assertThat(last.hasNext()).isFalse();
+  }
+
+  @Test
+  void searchByNameKeepsRankingAndSkipsRowsDeletedSinceIndexing() {
+    when(employeeService.searchIdsByName("a", 10, false)).thenReturn(List.of(3L, 99L, 1L));
+
+    assertThat(queries.searchByName("a", 10, false)).extracting(EmployeeResponse::getId).containsExactly(3L, 1L);
+  }
+
+  @Test
+  void searchByNameSkipsQueryWhenNothingMatches() {
+    when(employeeService.searchIdsByName("zz", 10, false)).thenReturn(List.of());
+
+    assertThat(queries.searchByName("zz", 10, false)).isEmpty();
+  }
+
+  @Test
+  void rejectsInvertedRangesBeforeQuerying() {
+    EmployeeFilter ages = new EmployeeFilter();
+    ages.setMinAge(40);
+    ages.setMaxAge(30);
+    EmployeeFilter births = new EmployeeFilter();
+    births.setBornFrom(LocalDate.of(2000, 1, 1));
+    births.setBornTo(LocalDate.of(1990, 1, 1));
+
+    assertThatThrownBy(() -> queries.findAll(ages))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("minAge");
+    assertThatThrownBy(() -> queries.findPage(births, null, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bornFrom");
+  }
+}
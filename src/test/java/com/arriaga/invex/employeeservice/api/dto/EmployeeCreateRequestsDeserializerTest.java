@@ -0,0 +1,41 @@
+package com.arriaga.invex.employeeservice.api.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCreateRequestsDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Test
+  void bindsSingleObjectAndArray() throws Exception {
+    EmployeeCreateRequests single = read("{\"firstName\":\"Ana\",\"birthDate\":\"01-02-1990\"}");
+    EmployeeCreateRequests array = read("[{\"firstName\":\"Ana\"},{\"firstName\":\"Luis\"}]");
+
+    assertThat(single.getItems()).extracting(EmployeeCreateRequest::getBirthDate)
+        .containsExactly(LocalDate.of(1990, 2, 1));
+    assertThat(array.getItems()).extracting(EmployeeCreateRequest::getFirstName).containsExactly("Ana", "Luis");
+    assertThat(read("null").getItems()).isEmpty();
+  }
+
+  @Test
+  void rejectsScalarsAndInvalidItemsAsBadRequests() {
+    assertThatThrownBy(() -> read("\"ana\""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("object or array");
+    assertThatThrownBy(() -> read("[{\"firstName\":\"Ana\"},{\"age\":\"old\"}]"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid request payload");
+    assertThatThrownBy(() -> read("[{\"firstName\":"))
+        .isInstanceOf(JsonParseException.class);
+  }
+
+  private EmployeeCreateRequests read(String json) throws Exception {
+    return objectMapper.readValue(json, EmployeeCreateRequests.class);
+  }
+}
@@ -0,0 +1,80 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequests;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCreateParseBenchmark {
+
+  @Param({"1", "100"})
+  private int items;
+
+  private ObjectMapper objectMapper;
+  private ObjectReader reader;
+  private byte[] body;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    reader = objectMapper.readerFor(EmployeeCreateRequests.class);
+    StringBuilder json = new StringBuilder(items == 1 ? "" : "[");
+    for (int i = 0; i < items; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"firstName\":\"Ana").append(i).append("\",\"middleName\":\"Maria\",\"lastName\":\"Ruiz\",")
+          .append("\"secondLastName\":\"Lopez\",\"age\":").append(20 + i % 40)
+          .append(",\"sex\":\"F\",\"birthDate\":\"01-02-1990\",\"position\":\"Engineer\",\"active\":true}");
+    }
+    if (items > 1) {
+      json.append(']');
+    }
+    body = json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<EmployeeCreateRequest> treeThenBind() throws Exception {
+    JsonNode tree = objectMapper.readTree(body);
+    List<EmployeeCreateRequest> requests = new ArrayList<>();
+    if (tree.isArray()) {
+      for (JsonNode node : tree) {
+        requests.add(objectMapper.treeToValue(node, EmployeeCreateRequest.class));
+      }
+    } else {
+      requests.add(objectMapper.treeToValue(tree, EmployeeCreateRequest.class));
+    }
+    return requests;
+  }
+
+  @Benchmark
+  public List<EmployeeCreateRequest> streamingBind() throws Exception {
+    return reader.<EmployeeCreateRequests>readValue(body).getItems();
+  }
+}
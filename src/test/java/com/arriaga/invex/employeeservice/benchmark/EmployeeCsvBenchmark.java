@@ -0,0 +1,171 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.arriaga.invex.employeeservice.api.EmployeeCsvWriter;
+import com.arriaga.invex.employeeservice.api.EmployeeImporter;
+import com.arriaga.invex.employeeservice.api.EmployeeMapper;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeCreateRequest;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeImportResponse;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(EmployeeCsvBenchmark.ROWS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeCsvBenchmark {
+
+  static final int ROWS = 1_000_000;
+
+  @State(Scope.Benchmark)
+  public static class ImportState {
+
+    private EmployeeImporter importer;
+    private byte[] csv;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+      ObjectMapper objectMapper = objectMapper();
+      EmployeeService employeeService = mock(EmployeeService.class, withSettings().stubOnly());
+      when(employeeService.createAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+      importer = new EmployeeImporter(
+          employeeService, objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), 500);
+      ByteArrayOutputStream csvOutput = new ByteArrayOutputStream();
+      EmployeeCsvWriter writer = new EmployeeCsvWriter(csvOutput);
+      writer.writeHeader();
+      ByteArrayOutputStream jsonOutput = new ByteArrayOutputStream();
+      jsonOutput.write('[');
+      for (int i = 0; i < ROWS; i++) {
+        Employee employee = employee(i);
+        writer.write(employee);
+        if (i > 0) {
+          jsonOutput.write(',');
+        }
+        objectMapper.writeValue(jsonOutput, toCreateRequest(employee));
+      }
+      writer.flush();
+      jsonOutput.write(']');
+      csv = csvOutput.toByteArray();
+      json = jsonOutput.toByteArray();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ExportState {
+
+    private List<Employee> employees;
+    private ObjectMapper objectMapper;
+    private ObjectWriter responseWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      objectMapper = objectMapper();
+      responseWriter = objectMapper.writerFor(EmployeeResponse.class)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+      employees = new ArrayList<>(ROWS);
+      for (int i = 0; i < ROWS; i++) {
+        employees.add(employee(i));
+      }
+    }
+  }
+
+  @Benchmark
+  public EmployeeImportResponse importJsonArray(ImportState state) throws Exception {
+    return state.importer.importJson(new ByteArrayInputStream(state.json));
+  }
+
+  @Benchmark
+  public EmployeeImportResponse importCsv(ImportState state) throws Exception {
+    return state.importer.importCsv(new ByteArrayInputStream(state.csv));
+  }
+
+  @Benchmark
+  public void exportNdjson(ExportState state) throws Exception {
+    try (JsonGenerator generator = state.objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+      generator.setRootValueSeparator(null);
+      for (Employee employee : state.employees) {
+        state.responseWriter.writeValue(generator, EmployeeMapper.toResponse(employee));
+        generator.writeRaw('\n');
+      }
+    }
+  }
+
+  @Benchmark
+  public void exportCsv(ExportState state) throws Exception {
+    EmployeeCsvWriter writer = new EmployeeCsvWriter(OutputStream.nullOutputStream());
+    writer.writeHeader();
+    for (Employee employee : state.employees) {
+      writer.write(employee);
+    }
+    writer.flush();
+  }
+
+  private static ObjectMapper objectMapper() {
+    return new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  private static Employee employee(int i) {
+    Employee employee = new Employee();
+    employee.setId((long) i + 1);
+    employee.setFirstName("First" + i);
+    employee.setMiddleName(i % 3 == 0 ? "Maria" : null);
+    employee.setLastName("Last" + i);
+    employee.setSecondLastName("Lopez");
+    employee.setAge(20 + i % 40);
+    employee.setSex(i % 2 == 0 ? "F" : "M");
+    employee.setBirthDate(LocalDate.of(1970, 1, 1).plusDays(i % 15_000));
+    employee.setPosition("Engineer");
+    employee.setCreatedAt(Instant.ofEpochSecond(1_700_000_000L + i));
+    employee.setActive(i % 5 != 0);
+    return employee;
+  }
+
+  private static EmployeeCreateRequest toCreateRequest(Employee employee) {
+    EmployeeCreateRequest request = new EmployeeCreateRequest();
+    request.setFirstName(employee.getFirstName());
+    request.setMiddleName(employee.getMiddleName());
+    request.setLastName(employee.getLastName());
+    request.setSecondLastName(employee.getSecondLastName());
+    request.setAge(employee.getAge());
+    request.setSex(employee.getSex());
+    request.setBirthDate(employee.getBirthDate());
+    request.setPosition(employee.getPosition());
+    request.setActive(employee.getActive());
+    return request;
+  }
+}
@@ -0,0 +1,120 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import com.arriaga.invex.employeeservice.EmployeeServiceApplication;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.persistence.EmployeeRepository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeInsertBenchmark {
+
+  private static final int ROWS = 1000;
+  private static final String CREATE_IDENTITY_TABLE = "CREATE TABLE employees_identity ("
+      + "id BIGINT PRIMARY KEY AUTO_INCREMENT, first_name VARCHAR(100) NOT NULL, last_name VARCHAR(100) NOT NULL, "
+      + "age INT, birth_date DATE, position VARCHAR(120), search_name VARCHAR(403), active BOOLEAN NOT NULL, "
+      + "version BIGINT NOT NULL)";
+  private static final String IDENTITY_INSERT = "INSERT INTO employees_identity (first_name, last_name, age, "
+      + "birth_date, position, search_name, active, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+  private ConfigurableApplicationContext context;
+  private EmployeeRepository repository;
+  private DataSource dataSource;
+  private JdbcTemplate jdbc;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "logging.level.root=WARN")
+        .run();
+    repository = context.getBean(EmployeeRepository.class);
+    dataSource = context.getBean(DataSource.class);
+    jdbc = context.getBean(JdbcTemplate.class);
+    jdbc.execute(CREATE_IDENTITY_TABLE);
+  }
+
+  @TearDown(Level.Iteration)
+  public void clear() {
+    jdbc.update("DELETE FROM employees");
+    jdbc.update("DELETE FROM employees_identity");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbc.execute("DROP TABLE employees_identity");
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public List<Long> identityInsertPerRow() throws Exception {
+    List<Long> ids = new ArrayList<>(ROWS);
+    try (var connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(IDENTITY_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+      for (int i = 0; i < ROWS; i++) {
+        statement.setString(1, "First" + i);
+        statement.setString(2, "Last" + i);
+        statement.setInt(3, 20 + i % 40);
+        statement.setObject(4, LocalDate.of(1980, 1, 1).plusDays(i));
+        statement.setString(5, "Engineer");
+        statement.setString(6, "first" + i + " last" + i);
+        statement.setBoolean(7, true);
+        statement.executeUpdate();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+          keys.next();
+          ids.add(keys.getLong(1));
+        }
+      }
+    }
+    return ids;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public List<Employee> batchedSaveAll() {
+    List<Employee> employees = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      Employee employee = new Employee();
+      employee.setFirstName("First" + i);
+      employee.setLastName("Last" + i);
+      employee.setAge(20 + i % 40);
+      employee.setBirthDate(LocalDate.of(1980, 1, 1).plusDays(i));
+      employee.setPosition("Engineer");
+      employee.setSearchName("first" + i + " last" + i);
+      employee.setActive(true);
+      employees.add(employee);
+    }
+    return repository.saveAll(employees);
+  }
+}
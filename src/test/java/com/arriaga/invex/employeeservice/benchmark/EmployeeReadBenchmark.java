@@ -0,0 +1,83 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import com.arriaga.invex.employeeservice.EmployeeServiceApplication;
+import com.arriaga.invex.employeeservice.api.EmployeeMapper;
+import com.arriaga.invex.employeeservice.api.EmployeeResponseQueries;
+import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
+import com.arriaga.invex.employeeservice.persistence.EmployeeRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeReadBenchmark {
+
+  @Param({"1000", "10000"})
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+  private EmployeeRepository repository;
+  private EmployeeResponseQueries responseQueries;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:read-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "logging.level.root=WARN")
+        .run();
+    repository = context.getBean(EmployeeRepository.class);
+    responseQueries = context.getBean(EmployeeResponseQueries.class);
+    JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+    List<Object[]> batch = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      batch.add(new Object[] {i + 1L, "First" + i, "Last" + i, 20 + i % 40, LocalDate.of(1980, 1, 1).plusDays(i),
+          "Engineer", i % 2 == 0});
+    }
+    jdbc.batchUpdate(
+        "INSERT INTO employees (id, first_name, last_name, age, birth_date, position, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+        batch);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<EmployeeResponse> jpaEntitiesMappedToResponses() {
+    return repository.findAll().stream()
+        .map(EmployeeMapper::toResponse)
+        .toList();
+  }
+
+  @Benchmark
+  public List<EmployeeResponse> jdbcRowsMappedToResponses() {
+    return responseQueries.findAll(null);
+  }
+}
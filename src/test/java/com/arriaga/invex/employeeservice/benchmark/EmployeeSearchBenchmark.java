@@ -0,0 +1,74 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.search.EmployeeSearchIndex;
+import com.arriaga.invex.employeeservice.search.SearchText;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeSearchBenchmark {
+
+  private static final int ROWS = 200_000;
+  private static final int LIMIT = 20;
+  private static final String[] FIRST_NAMES = {
+      "ana", "andres", "alberto", "alicia", "maria", "mario", "marta", "manuel", "luis", "lucia",
+      "jose", "juan", "julia", "pedro", "paula", "sofia", "sergio", "carlos", "carmen", "elena"};
+  private static final String[] LAST_NAMES = {
+      "garcia", "martinez", "lopez", "sanchez", "perez", "gomez", "martin", "jimenez", "ruiz", "hernandez",
+      "diaz", "moreno", "alvarez", "munoz", "romero", "alonso", "gutierrez", "navarro", "torres", "dominguez"};
+
+  private EmployeeSearchIndex index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    index = new EmployeeSearchIndex();
+    Random random = new Random(42);
+    for (long id = 1; id <= ROWS; id++) {
+      Employee employee = new Employee();
+      employee.setId(id);
+      employee.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+      employee.setMiddleName(random.nextBoolean() ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] : null);
+      employee.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)] + random.nextInt(500));
+      employee.setSecondLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+      employee.setSearchName(SearchText.fullName(
+          employee.getFirstName(),
+          employee.getMiddleName(),
+          employee.getLastName(),
+          employee.getSecondLastName()));
+      index.index(employee);
+    }
+  }
+
+  @Benchmark
+  public List<Long> oneLetter() {
+    return index.search("a", LIMIT);
+  }
+
+  @Benchmark
+  public List<Long> twoLetters() {
+    return index.search("ma", LIMIT);
+  }
+
+  @Benchmark
+  public List<Long> trigram() {
+    return index.search("mar", LIMIT);
+  }
+}
@@ -0,0 +1,108 @@
+package com.arriaga.invex.employeeservice.benchmark;
+
+import com.arriaga.invex.employeeservice.EmployeeServiceApplication;
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.persistence.EmployeeRepository;
+import com.arriaga.invex.employeeservice.service.EmployeeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeUpdateBenchmark {
+
+  private static final int ROWS = 1000;
+
+  private ConfigurableApplicationContext context;
+  private EmployeeRepository repository;
+  private EmployeeService employeeService;
+  private TransactionTemplate transactionTemplate;
+  private List<Long> ids;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:update-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "logging.level.root=WARN")
+        .run();
+    repository = context.getBean(EmployeeRepository.class);
+    employeeService = context.getBean(EmployeeService.class);
+    transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    List<Employee> employees = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      Employee employee = new Employee();
+      employee.setFirstName("First" + i);
+      employee.setLastName("Last" + i);
+      employee.setAge(30);
+      employee.setPosition("Engineer");
+      employee.setActive(true);
+      employees.add(employee);
+    }
+    ids = employeeService.createAll(employees).stream().map(Employee::getId).toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Employee loadAndSave() {
+    Long id = nextId();
+    return transactionTemplate.execute(status -> {
+      Employee existing = repository.findById(id).orElseThrow();
+      existing.setAge(nextAge());
+      return repository.saveAndFlush(existing);
+    });
+  }
+
+  @Benchmark
+  public Employee singleUpdateReadBack() {
+    return employeeService.updatePartial(nextId(), ageUpdate(), null, true);
+  }
+
+  @Benchmark
+  public Employee singleUpdateMinimal() {
+    return employeeService.updatePartial(nextId(), ageUpdate(), null, false);
+  }
+
+  private Employee ageUpdate() {
+    Employee updates = new Employee();
+    updates.setAge(nextAge());
+    return updates;
+  }
+
+  private Long nextId() {
+    next = (next + 1) % ids.size();
+    return ids.get(next);
+  }
+
+  private int nextAge() {
+    return 20 + next % 40;
+  }
+}
@@ -0,0 +1,45 @@
+package com.arriaga.invex.employeeservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arriaga.invex.employeeservice.api.dto.EmployeeResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class BinaryFormatConfigTest {
+
+  private final BinaryFormatConfig config = new BinaryFormatConfig();
+
+  @Test
+  void smileAndCborKeepJsonFieldOrderAndFormats() throws Exception {
+    EmployeeResponse response = new EmployeeResponse();
+    response.setId(4L);
+    response.setFirstName("Ana");
+    response.setBirthDate(LocalDate.of(1990, 2, 1));
+    response.setCreatedAt(Instant.parse("2024-01-02T03:04:05Z"));
+    response.setActive(true);
+
+    ObjectMapper smile = config.smileHttpMessageConverter(builder()).getObjectMapper();
+    ObjectMapper cbor = config.cborHttpMessageConverter(builder()).getObjectMapper();
+
+    for (ObjectMapper mapper : List.of(smile, cbor)) {
+      JsonNode node = mapper.readTree(mapper.writeValueAsBytes(response));
+      assertThat(node.fieldNames()).toIterable().containsExactly("id", "firstName", "middleName", "lastName",
+          "secondLastName", "age", "sex", "birthDate", "position", "createdAt", "active");
+      assertThat(node.get("birthDate").asText()).isEqualTo("01-02-1990");
+      assertThat(node.get("createdAt").asText()).isEqualTo("2024-01-02T03:04:05Z");
+      assertThat(mapper.readValue(mapper.writeValueAsBytes(response), EmployeeResponse.class).getBirthDate())
+          .isEqualTo(response.getBirthDate());
+    }
+  }
+
+  private Jackson2ObjectMapperBuilder builder() {
+    return new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+}
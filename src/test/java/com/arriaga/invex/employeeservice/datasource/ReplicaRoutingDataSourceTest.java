@@ -0,0 +1,92 @@
+package com.arriaga.invex.employeeservice.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicaRoutingDataSourceTest {
+
+  private ReadYourWritesTracker tracker;
+  private JdbcTemplate jdbc;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    DataSource primary = database("primary");
+    DataSource replica = database("replica");
+    tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, tracker));
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+    jdbc = new JdbcTemplate(routing);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+    assertThat(nodeIn(readOnly)).isEqualTo("replica");
+    assertThat(nodeIn(readWrite)).isEqualTo("primary");
+    assertThat(node()).isEqualTo("primary");
+  }
+
+  @Test
+  void requestThatWroteReadsFromPrimary() {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    tracker.markWrite();
+
+    assertThat(nodeIn(readOnly)).isEqualTo("primary");
+  }
+
+  @Test
+  void subjectReadsOwnWritesWithinWindowOnly() {
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("ana", null, "ROLE_USER"));
+    tracker.markWrite();
+
+    assertThat(nodeIn(readOnly)).isEqualTo("primary");
+
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("luis", null, "ROLE_USER"));
+
+    assertThat(nodeIn(readOnly)).isEqualTo("replica");
+  }
+
+  private String nodeIn(TransactionTemplate transaction) {
+    return transaction.execute(status -> node());
+  }
+
+  private String node() {
+    return jdbc.queryForObject("SELECT name FROM node", String.class);
+  }
+
+  private DataSource database(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+    template.execute("DELETE FROM node");
+    template.update("INSERT INTO node (name) VALUES (?)", name);
+    return dataSource;
+  }
+}
@@ -15,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 import org.springframework.core.MethodParameter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpInputMessage;
@@ -87,6 +89,32 @@ class GlobalExceptionHandlerTest {
     assertThat(response.getBody().getMessage()).isEqualTo("Employee not found");
   }
 
+  @Test
+  void handleVersionConflicts() {
+    HttpServletRequest request = mockRequest();
+
+    ResponseEntity<ApiErrorResponse> mismatch =
+        handler.handleVersionMismatch(new EmployeeVersionMismatchException(7L), request);
+    ResponseEntity<ApiErrorResponse> concurrent = handler.handleOptimisticLockingFailure(
+        new OptimisticLockingFailureException("stale"), request);
+
+    assertThat(mismatch.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    assertThat(mismatch.getBody().getErrorCode()).isEqualTo(ErrorCode.PRECONDITION_FAILED.name());
+    assertThat(concurrent.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void handleBulkJobRejectedReturnsTooManyRequestsWithRetryAfter() {
+    HttpServletRequest request = mockRequest();
+
+    ResponseEntity<ApiErrorResponse> response =
+        handler.handleBulkJobRejected(new EmployeeBulkJobRejectedException(), request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    assertThat(response.getBody().getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS.name());
+  }
+
   @Test
   void handleIllegalArgumentUsesMessage() {
     HttpServletRequest request = mockRequest();
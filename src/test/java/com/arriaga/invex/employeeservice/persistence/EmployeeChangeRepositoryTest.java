@@ -0,0 +1,37 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class EmployeeChangeRepositoryTest {
+
+  @Test
+  void incrementsInsideTheCallersTransaction() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:changes-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+    EmployeeChangeRepository repository = new EmployeeChangeRepository(new NamedParameterJdbcTemplate(dataSource));
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+    assertThat(repository.current()).isZero();
+    repository.increment();
+    repository.increment();
+    transactionTemplate.executeWithoutResult(status -> {
+      repository.increment();
+      status.setRollbackOnly();
+    });
+
+    assertThat(repository.current()).isEqualTo(2L);
+  }
+}
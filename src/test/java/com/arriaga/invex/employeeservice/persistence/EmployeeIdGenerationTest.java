@@ -0,0 +1,65 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EmployeeIdGenerationTest {
+
+  @Autowired
+  private EmployeeRepository repository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Test
+  void saveAllAssignsIdsInOrderAndBatchesInserts() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    List<Employee> employees = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      employees.add(employee("Ana" + i));
+    }
+
+    List<Employee> saved = repository.saveAll(employees);
+    repository.flush();
+
+    assertThat(saved).extracting(Employee::getId).doesNotContainNull().isSorted().doesNotHaveDuplicates();
+    assertThat(saved.get(0).getFirstName()).isEqualTo("Ana0");
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+  }
+
+  @Test
+  void idColumnNoLongerGeneratesValues() {
+    assertThatThrownBy(() -> jdbc.update(
+        "INSERT INTO employees (first_name, last_name, search_name, active, version) VALUES ('Ana', 'Ruiz', 'ana ruiz', TRUE, 0)"))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  private Employee employee(String firstName) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName("Ruiz");
+    employee.setSearchName(firstName.toLowerCase() + " ruiz");
+    employee.setActive(true);
+    return employee;
+  }
+}
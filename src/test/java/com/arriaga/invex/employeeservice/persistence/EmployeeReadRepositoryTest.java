@@ -0,0 +1,114 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class EmployeeReadRepositoryTest {
+
+  private static final RowMapper<Employee> EMPLOYEE = (rs, rowNum) -> {
+    Employee employee = new Employee();
+    employee.setId(rs.getLong("id"));
+    employee.setFirstName(rs.getString("first_name"));
+    employee.setLastName(rs.getString("last_name"));
+    employee.setAge(rs.getObject("age", Integer.class));
+    employee.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+    employee.setCreatedAt(rs.getTimestamp("created_at").toInstant());
+    employee.setActive(rs.getObject("active", Boolean.class));
+    return employee;
+  };
+
+  private NamedParameterJdbcTemplate jdbc;
+  private EmployeeReadRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:read-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+    jdbc = new NamedParameterJdbcTemplate(dataSource);
+    repository = new EmployeeReadRepository(jdbc);
+    insert(1L, "Ana", "Engineer", 30, LocalDate.of(1994, 3, 1), true);
+    insert(2L, "Luis", "Engineer", 45, LocalDate.of(1979, 7, 9), false);
+    insert(3L, "Eva", "Designer", 28, null, true);
+  }
+
+  @Test
+  void findAllReadsEveryColumnInIdOrder() {
+    List<Employee> employees = repository.findAll(null, EMPLOYEE);
+
+    assertThat(employees).extracting(Employee::getFirstName).containsExactly("Ana", "Luis", "Eva");
+    Employee ana = employees.get(0);
+    assertThat(ana.getLastName()).isEqualTo("Ruiz");
+    assertThat(ana.getAge()).isEqualTo(30);
+    assertThat(ana.getBirthDate()).isEqualTo(LocalDate.of(1994, 3, 1));
+    assertThat(ana.getCreatedAt()).isNotNull();
+    assertThat(ana.getActive()).isTrue();
+    assertThat(employees.get(2).getBirthDate()).isNull();
+  }
+
+  @Test
+  void findPageAppliesFiltersAfterCursor() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setPosition(" Engineer ");
+    filter.setMaxAge(40);
+    Long firstId = repository.findAll(null, EMPLOYEE).get(0).getId();
+
+    assertThat(repository.findPage(filter, 0L, 10, EMPLOYEE)).extracting(Employee::getFirstName).containsExactly("Ana");
+    assertThat(repository.findPage(null, firstId, 1, EMPLOYEE)).extracting(Employee::getFirstName).containsExactly("Luis");
+  }
+
+  @Test
+  void findAllAppliesFiltersWithoutPaging() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setActive(false);
+
+    assertThat(repository.findAll(filter, EMPLOYEE)).extracting(Employee::getFirstName).containsExactly("Luis");
+  }
+
+  @Test
+  void findAllByIdReturnsOnlyExistingRows() {
+    Long lastId = repository.findAll(null, EMPLOYEE).get(2).getId();
+
+    assertThat(repository.findAllById(List.of(lastId, 999L), EMPLOYEE)).extracting(Employee::getFirstName)
+        .containsExactly("Eva");
+    assertThat(repository.findAllById(List.of(), EMPLOYEE)).isEmpty();
+  }
+
+  @Test
+  void findProjectedReadsRequestedColumnsWithTheSameFilter() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setActive(true);
+    filter.setMinAge(29);
+    Long firstId = repository.findAll(null, EMPLOYEE).get(0).getId();
+
+    List<Map<String, Object>> rows = repository.findProjected(List.of("firstName", "birthDate"), filter, 0L, null);
+
+    assertThat(rows).containsExactly(Map.of(
+        "id", firstId, "firstName", "Ana", "birthDate", LocalDate.of(1994, 3, 1)));
+    assertThat(repository.findProjectedByIds(List.of("active"), List.of(firstId)))
+        .containsExactly(Map.of("id", firstId, "active", true));
+  }
+
+  private void insert(Long id, String firstName, String position, int age, LocalDate birthDate, boolean active) {
+    jdbc.getJdbcTemplate().update(
+        "INSERT INTO employees (id, first_name, last_name, age, birth_date, position, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+        id, firstName, "Ruiz", age, birthDate, position, active);
+  }
+}
@@ -0,0 +1,78 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class EmployeeUpdateRepositoryTest {
+
+  private NamedParameterJdbcTemplate jdbc;
+  private EmployeeUpdateRepository repository;
+  private Long id;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:update-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+    jdbc = new NamedParameterJdbcTemplate(dataSource);
+    repository = new EmployeeUpdateRepository(jdbc);
+    jdbc.getJdbcTemplate().update(
+        "INSERT INTO employees (id, first_name, last_name, age, position, active) "
+            + "VALUES (1, 'Ana', 'Ruiz', 30, 'Engineer', TRUE)");
+    id = 1L;
+  }
+
+  @Test
+  void updateFieldsWritesOnlyGivenColumnsAndBumpsVersion() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("age", 31);
+    values.put("birthDate", LocalDate.of(1993, 1, 1));
+    values.put("active", false);
+
+    assertThat(repository.updateFields(id, values, 0L)).isEqualTo(1);
+
+    Map<String, Object> row = jdbc.getJdbcTemplate().queryForMap(
+        "SELECT first_name, age, birth_date, position, active, version FROM employees WHERE id = ?", id);
+    assertThat(row.get("FIRST_NAME")).isEqualTo("Ana");
+    assertThat(row.get("AGE")).isEqualTo(31);
+    assertThat(row.get("BIRTH_DATE").toString()).isEqualTo("1993-01-01");
+    assertThat(row.get("POSITION")).isEqualTo("Engineer");
+    assertThat(row.get("ACTIVE")).isEqualTo(false);
+    assertThat(row.get("VERSION")).isEqualTo(1L);
+  }
+
+  @Test
+  void updateFieldsMatchesNothingForStaleVersionOrMissingRow() {
+    Map<String, Object> values = Map.of("position", "Lead");
+
+    assertThat(repository.updateFields(id, values, 7L)).isZero();
+    assertThat(repository.updateFields(id + 1, values, null)).isZero();
+    assertThat(repository.updateFields(id, values, null)).isEqualTo(1);
+  }
+
+  @Test
+  void updateFieldsRejectsColumnsThatCannotBeWrittenInPlace() {
+    assertThatThrownBy(() -> repository.updateFields(id, Map.of("firstName", "Eva"), null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> repository.updateFields(id, Map.of("unknown", 1), null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> repository.updateFields(id, Map.of(), null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(EmployeeUpdateRepository.supports("birthDate")).isTrue();
+    assertThat(EmployeeUpdateRepository.supports("lastName")).isFalse();
+  }
+}
@@ -0,0 +1,20 @@
+package com.arriaga.invex.employeeservice.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FoldSearchNameMigrationTest {
+
+  @Test
+  void foldsAccentsCaseAndSpacesOfEveryNamePart() {
+    assertThat(FoldSearchNameMigration.foldedName(" José ", null, "MUÑOZ  Peña", ""))
+        .isEqualTo("jose munoz pena");
+    assertThat(FoldSearchNameMigration.foldedName(null, " ", null, null)).isNull();
+  }
+
+  @Test
+  void reportsAStableChecksum() {
+    assertThat(new FoldSearchNameMigration().getChecksum()).isEqualTo(-1521550059);
+  }
+}
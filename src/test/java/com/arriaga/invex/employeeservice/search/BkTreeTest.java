@@ -0,0 +1,67 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BkTreeTest {
+
+  @Test
+  void findsTermsWithinEditDistance() {
+    BkTree tree = new BkTree();
+    tree.add("gonzalez");
+    tree.add("gomez");
+    tree.add("gonzales");
+    tree.add("perez");
+
+    assertThat(search(tree, "gonsalez", 1)).containsOnlyKeys("gonzalez");
+    assertThat(search(tree, "gonsalez", 2)).containsEntry("gonzalez", 1).containsEntry("gonzales", 2);
+    assertThat(search(tree, "peres", 1)).containsOnlyKeys("perez");
+  }
+
+  @Test
+  void skipsRemovedTermsAndRevivesThem() {
+    BkTree tree = new BkTree();
+    tree.add("ruiz");
+    tree.add("ruis");
+    tree.add("diaz");
+
+    tree.remove("ruiz");
+
+    assertThat(search(tree, "ruiz", 1)).containsOnlyKeys("ruis");
+
+    tree.add("ruiz");
+
+    assertThat(search(tree, "ruiz", 0)).containsOnlyKeys("ruiz");
+    assertThat(tree.size()).isEqualTo(3);
+  }
+
+  @Test
+  void compactsWhenMostTermsAreRemoved() {
+    BkTree tree = new BkTree();
+    tree.add("ana");
+    tree.add("eva");
+    tree.add("ava");
+
+    tree.remove("ana");
+    tree.remove("eva");
+
+    assertThat(tree.size()).isEqualTo(1);
+    assertThat(search(tree, "ana", 1)).containsOnlyKeys("ava");
+  }
+
+  @Test
+  void computesLevenshteinDistance() {
+    assertThat(Levenshtein.distance("perez", "pérez")).isEqualTo(1);
+    assertThat(Levenshtein.distance("kitten", "sitting")).isEqualTo(3);
+    assertThat(Levenshtein.distance("", "ana")).isEqualTo(3);
+  }
+
+  private Map<String, Integer> search(BkTree tree, String term, int maxDistance) {
+    Map<String, Integer> found = new HashMap<>();
+    tree.search(term, maxDistance, found::put);
+    return found;
+  }
+}
@@ -0,0 +1,124 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSearchIndexTest {
+
+  @Test
+  void ranksExactThenPrefixThenSubstringAndKeepsOnlyTopK() {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    index.index(employee(1L, "Juliana", null, "Soto", null));
+    index.index(employee(2L, "Pedro", "Ana", "Gil", null));
+    index.index(employee(3L, "Ana", null, "Ruiz", null));
+    index.index(employee(4L, "Anabel", null, "Diaz", null));
+    index.index(employee(5L, "Luis", null, "Perez", "Ana"));
+
+    assertThat(index.search("ana", 10)).containsExactly(3L, 2L, 5L, 4L, 1L);
+    assertThat(index.search("ana", 2)).containsExactly(3L, 2L);
+  }
+
+  @Test
+  void answersShortTermsFromNameTokenPrefixes() {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    index.index(employee(1L, "Ivan", null, "Soto", null));
+    index.index(employee(2L, "Andres", null, "Ruiz", null));
+    index.index(employee(3L, "Ana", "Andrea", "Gil", null));
+
+    assertThat(index.search("an", 10)).containsExactlyInAnyOrder(2L, 3L);
+    assertThat(index.search("s", 10)).containsExactly(1L);
+    assertThat(index.search("an", 1)).hasSize(1);
+  }
+
+  @Test
+  void singleTokenTermsStopEarlyWithTheSameTopKAsAFullScan() {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    String[] names = {"a", "al", "alba", "mar", "marco", "ma", "luis", "ana", "lia", "m"};
+    Random random = new Random(7);
+    List<Employee> employees = new ArrayList<>();
+    for (long id = 1; id <= 500; id++) {
+      Employee employee = employee(id,
+          names[random.nextInt(names.length)],
+          random.nextBoolean() ? names[random.nextInt(names.length)] : null,
+          names[random.nextInt(names.length)],
+          random.nextBoolean() ? names[random.nextInt(names.length)] : null);
+      employees.add(employee);
+      index.index(employee);
+    }
+
+    for (String term : List.of("a", "al", "m", "ma", "l", "z", "mar", "ana", "lia", "arc", "lba")) {
+      for (int limit : List.of(1, 5, 40, 600)) {
+        assertThat(index.search(term, limit)).as(term + " limit " + limit)
+            .isEqualTo(fullScan(employees, term, limit));
+      }
+    }
+  }
+
+  @Test
+  void forgetsRemovedEmployees() {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    index.index(employee(1L, "Ana", null, "Ruiz", null));
+
+    index.remove(1L);
+
+    assertThat(index.search("ana", 10)).isEmpty();
+    assertThat(index.suggest("an", 10)).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void replaysLiveChangesOverTheStartupSnapshot() {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    index.beginBuild();
+    index.index(employee(1L, "Maria", null, "Ruiz", null));
+    index.remove(2L);
+
+    index.load(employee(1L, "Ana", null, "Ruiz", null));
+    index.load(employee(2L, "Luis", null, "Soto", null));
+    index.load(employee(3L, "Eva", null, "Gil", null));
+
+    assertThat(index.isReady()).isFalse();
+    index.finishBuild();
+
+    assertThat(index.isReady()).isTrue();
+    assertThat(index.search("maria", 10)).containsExactly(1L);
+    assertThat(index.search("ana", 10)).isEmpty();
+    assertThat(index.search("luis", 10)).isEmpty();
+    assertThat(index.search("eva", 10)).containsExactly(3L);
+    assertThat(index.size()).isEqualTo(2);
+
+    index.index(employee(3L, "Eva", null, "Diaz", null));
+    assertThat(index.search("diaz", 10)).containsExactly(3L);
+  }
+
+  private List<Long> fullScan(List<Employee> employees, String term, int limit) {
+    return employees.stream()
+        .filter(employee -> term.length() < 3
+            ? Arrays.stream(SearchText.tokens(employee.getSearchName())).anyMatch(token -> token.startsWith(term))
+            : employee.getSearchName().contains(term))
+        .sorted(Comparator.comparingInt((Employee employee) -> SearchScorer.score(SearchKeys.of(employee), term))
+            .reversed()
+            .thenComparing(Employee::getId))
+        .limit(limit)
+        .map(Employee::getId)
+        .toList();
+  }
+
+  private Employee employee(Long id, String first, String middle, String last, String secondLast) {
+    Employee employee = new Employee();
+    employee.setId(id);
+    employee.setFirstName(first);
+    employee.setMiddleName(middle);
+    employee.setLastName(last);
+    employee.setSecondLastName(secondLast);
+    employee.setSearchName(SearchText.fullName(first, middle, last, secondLast));
+    return employee;
+  }
+}
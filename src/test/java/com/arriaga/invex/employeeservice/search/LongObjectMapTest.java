@@ -0,0 +1,48 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongObjectMapTest {
+
+  @Test
+  void putsReplacesAndRemovesEntries() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+
+    assertThat(map.put(7L, "a")).isNull();
+    assertThat(map.put(7L, "b")).isEqualTo("a");
+    assertThat(map.put(-3L, "c")).isNull();
+
+    assertThat(map.get(7L)).isEqualTo("b");
+    assertThat(map.get(-3L)).isEqualTo("c");
+    assertThat(map.get(8L)).isNull();
+    assertThat(map.remove(7L)).isEqualTo("b");
+    assertThat(map.remove(7L)).isNull();
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void matchesHashMapAcrossResizesAndRemovals() {
+    LongObjectMap<Long> map = new LongObjectMap<>();
+    Map<Long, Long> expected = new HashMap<>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 20_000; i++) {
+      long key = random.nextInt(2_000) * 16L;
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+      } else {
+        assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+      }
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (long key = 0; key < 2_000 * 16L; key += 16) {
+      assertThat(map.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+}
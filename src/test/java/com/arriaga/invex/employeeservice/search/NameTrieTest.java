@@ -0,0 +1,67 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NameTrieTest {
+
+  @Test
+  void suggestsMostFrequentCompletionsForPrefix() {
+    NameTrie trie = new NameTrie(2);
+    trie.add("maria", 1L);
+    trie.add("maria", 2L);
+    trie.add("mario", 3L);
+    trie.add("marta", 4L);
+    trie.add("luis", 5L);
+
+    List<NameSuggestion> suggestions = trie.suggest("mar", 10);
+
+    assertThat(suggestions).extracting(NameSuggestion::getToken).containsExactly("maria", "mario");
+    assertThat(suggestions).extracting(NameSuggestion::getCount).containsExactly(2, 1);
+    assertThat(trie.suggest("x", 10)).isEmpty();
+  }
+
+  @Test
+  void visitsPrefixIdsOnceInAscendingOrderAndStopsWhenAsked() {
+    NameTrie trie = new NameTrie(2);
+    trie.add("mario", 9L);
+    trie.add("maria", 4L);
+    trie.add("maria", 7L);
+    trie.add("marta", 4L);
+    trie.add("ma", 2L);
+    trie.add("luis", 1L);
+    List<Long> visited = new ArrayList<>();
+    List<Long> firstTwo = new ArrayList<>();
+
+    trie.forEachId("ma", visited::add);
+    trie.forEachId("ma", id -> firstTwo.add(id) && firstTwo.size() < 2);
+
+    assertThat(visited).containsExactly(2L, 4L, 7L, 9L);
+    assertThat(firstTwo).containsExactly(2L, 4L);
+  }
+
+  @Test
+  void reranksAndPrunesOnRemoval() {
+    NameTrie trie = new NameTrie(2);
+    trie.add("maria", 1L);
+    trie.add("maria", 2L);
+    trie.add("mario", 3L);
+    trie.add("marta", 4L);
+
+    trie.remove("maria", 1L);
+    trie.remove("maria", 2L);
+
+    assertThat(trie.suggest("mar", 10)).extracting(NameSuggestion::getToken)
+        .containsExactly("mario", "marta");
+    assertThat(trie.suggest("mari", 10)).extracting(NameSuggestion::getToken)
+        .containsExactly("mario");
+
+    trie.remove("mario", 3L);
+    trie.remove("marta", 4L);
+
+    assertThat(trie.suggest("m", 10)).isEmpty();
+  }
+}
@@ -0,0 +1,33 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SearchTextTest {
+
+  @Test
+  void normalizeTrimsCollapsesAndLowercases() {
+    assertThat(SearchText.normalize("  Ana   MARIA ")).isEqualTo("ana maria");
+    assertThat(SearchText.normalize(null)).isEmpty();
+  }
+
+  @Test
+  void fullNameSkipsMissingParts() {
+    assertThat(SearchText.fullName("Ana", null, " Ruiz ", "")).isEqualTo("ana ruiz");
+    assertThat(SearchText.fullName(null, " ")).isNull();
+  }
+
+  @Test
+  void normalizeFoldsAccentsAndCase() {
+    assertThat(SearchText.normalize("Pérez NÚÑEZ")).isEqualTo("perez nunez");
+    assertThat(SearchText.normalize("Strauß")).isEqualTo("strauss");
+    assertThat(SearchText.fullName("José", "Ángel")).isEqualTo("jose angel");
+  }
+
+  @Test
+  void tokensSplitNormalizedKeys() {
+    assertThat(SearchText.tokens("ana maria")).containsExactly("ana", "maria");
+    assertThat(SearchText.tokens(null)).isEmpty();
+  }
+}
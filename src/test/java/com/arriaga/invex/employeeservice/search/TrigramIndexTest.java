@@ -0,0 +1,73 @@
+package com.arriaga.invex.employeeservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+  @Test
+  void findsSubstringsAcrossNameParts() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1L, "ana maria ruiz");
+    index.put(2L, "luis diaz");
+    index.put(3L, "mariana lopez");
+
+    assertThat(matches(index, "maria")).containsExactly(1L, 3L);
+    assertThat(matches(index, "a ruiz")).containsExactly(1L);
+    assertThat(matches(index, "zzz")).isEmpty();
+  }
+
+  @Test
+  void verifiesCandidatesThatShareAllTrigrams() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1L, "abcx bcd");
+
+    assertThat(matches(index, "abcd")).isEmpty();
+  }
+
+  @Test
+  void leavesTermsShorterThanAGramToTheCaller() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1L, "ana ruiz");
+
+    assertThat(matches(index, "an")).isEmpty();
+    assertThat(matches(index, "")).isEmpty();
+  }
+
+  @Test
+  void stopsWhenVisitorDeclinesMoreMatches() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1L, "ana ruiz");
+    index.put(2L, "ana lopez");
+    index.put(3L, "ana soto");
+    List<Long> visited = new ArrayList<>();
+
+    index.forEachMatch("ana", id -> visited.add(id) && visited.size() < 2);
+
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void replacesAndRemovesEntries() {
+    TrigramIndex index = new TrigramIndex();
+    index.put(1L, "ana ruiz");
+    index.put(1L, "ana lopez");
+
+    assertThat(matches(index, "ruiz")).isEmpty();
+    assertThat(matches(index, "lopez")).containsExactly(1L);
+
+    index.remove(1L);
+
+    assertThat(matches(index, "lopez")).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+
+  private static List<Long> matches(TrigramIndex index, String term) {
+    List<Long> ids = new ArrayList<>();
+    index.forEachMatch(term, ids::add);
+    return ids;
+  }
+}
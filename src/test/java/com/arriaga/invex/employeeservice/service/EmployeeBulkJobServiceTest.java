@@ -0,0 +1,266 @@
+package com.arriaga.invex.employeeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJob;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobResult;
+import com.arriaga.invex.employeeservice.domain.EmployeeBulkJobStatus;
+import com.arriaga.invex.employeeservice.exception.EmployeeBulkJobNotFoundException;
+import com.arriaga.invex.employeeservice.exception.EmployeeBulkJobRejectedException;
+import com.arriaga.invex.employeeservice.persistence.EmployeeBulkJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkJobServiceTest {
+
+  @Mock
+  private EmployeeService employeeService;
+
+  private DriverManagerDataSource dataSource;
+  private EmployeeBulkJobRepository repository;
+  private ObjectMapper objectMapper;
+  private EmployeeBulkJobService service;
+  private List<List<String>> savedChunks;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:bulk-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    Flyway.configure()
+        .dataSource(dataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+    repository = new EmployeeBulkJobRepository(new NamedParameterJdbcTemplate(dataSource));
+    objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+    service = newService(2, 2);
+    savedChunks = new ArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  void runSavesChunksAndRecordsPerRowResults() throws Exception {
+    recordSavedChunks();
+    String id = insertJob(List.of(new EmployeeBulkJobResult(1, null, List.of("firstName: must not be blank"))),
+        employee("Ana"), null, employee("Luis"), employee("Eva"));
+
+    service.run(id);
+
+    assertThat(savedChunks).containsExactly(List.of("Ana"), List.of("Luis", "Eva"));
+    EmployeeBulkJob job = service.find(id);
+    assertThat(job.getStatus()).isEqualTo(EmployeeBulkJobStatus.COMPLETED);
+    assertThat(job.getProcessed()).isEqualTo(4);
+    assertThat(job.getSucceeded()).isEqualTo(3);
+    assertThat(job.getFailed()).isEqualTo(1);
+    List<EmployeeBulkJobResult> results = service.findResults(id, null, 10).getItems();
+    assertThat(results).extracting(EmployeeBulkJobResult::getIndex).containsExactly(0, 1, 2, 3);
+    assertThat(results).extracting(EmployeeBulkJobResult::getEmployeeId).containsExactly(1L, null, 2L, 3L);
+    assertThat(results.get(1).getErrors()).containsExactly("firstName: must not be blank");
+    assertThat(repository.findPayload(id)).isNull();
+  }
+
+  @Test
+  void runResumesAfterLastRecordedChunk() throws Exception {
+    recordSavedChunks();
+    String id = insertJob(List.of(), employee("Ana"), employee("Luis"), employee("Eva"));
+    assertThat(repository.claim(id, "crashed-instance", Duration.ZERO)).isTrue();
+    repository.recordChunk(id, "crashed-instance", Duration.ZERO, 2, List.of(
+        new EmployeeBulkJobResult(0, 10L, List.of()),
+        new EmployeeBulkJobResult(1, 11L, List.of())));
+
+    service.run(id);
+
+    assertThat(savedChunks).containsExactly(List.of("Eva"));
+    EmployeeBulkJob job = service.find(id);
+    assertThat(job.getStatus()).isEqualTo(EmployeeBulkJobStatus.COMPLETED);
+    assertThat(job.getSucceeded()).isEqualTo(3);
+    assertThat(service.findResults(id, null, 10).getItems()).extracting(EmployeeBulkJobResult::getEmployeeId)
+        .containsExactly(10L, 11L, 1L);
+  }
+
+  @Test
+  void runSkipsJobsLeasedByAnotherInstance() throws Exception {
+    String id = insertJob(List.of(), employee("Ana"));
+    assertThat(repository.claim(id, "other-instance", Duration.ofMinutes(5))).isTrue();
+
+    service.run(id);
+
+    EmployeeBulkJob job = service.find(id);
+    assertThat(job.getStatus()).isEqualTo(EmployeeBulkJobStatus.RUNNING);
+    assertThat(job.getProcessed()).isZero();
+    assertThat(repository.claim(id, "third-instance", Duration.ofMinutes(5))).isFalse();
+    assertThat(repository.recordChunk(id, "third-instance", Duration.ofMinutes(5), 1, List.of(
+        new EmployeeBulkJobResult(0, 1L, List.of())))).isFalse();
+    assertThat(service.findResults(id, null, 10).getItems()).isEmpty();
+  }
+
+  @Test
+  void findResultsPagesByRowIndex() throws Exception {
+    recordSavedChunks();
+    String id = insertJob(List.of(), employee("Ana"), employee("Luis"), employee("Eva"));
+    service.run(id);
+
+    EmployeePage<EmployeeBulkJobResult> first = service.findResults(id, null, 2);
+    EmployeePage<EmployeeBulkJobResult> second = service.findResults(id, first.getNextAfterId(), 2);
+
+    assertThat(first.getItems()).extracting(EmployeeBulkJobResult::getIndex).containsExactly(0, 1);
+    assertThat(first.getNextAfterId()).isEqualTo(1L);
+    assertThat(second.getItems()).extracting(EmployeeBulkJobResult::getIndex).containsExactly(2);
+    assertThat(second.hasNext()).isFalse();
+    assertThatThrownBy(() -> service.findResults("missing", null, 2))
+        .isInstanceOf(EmployeeBulkJobNotFoundException.class);
+  }
+
+  @Test
+  void resumeUnfinishedPicksUpQueuedAndExpiredLeaseJobs() throws Exception {
+    recordSavedChunks();
+    String queued = insertJob(List.of(), employee("Ana"));
+    String expired = insertJob(List.of(), employee("Luis"));
+    String leased = insertJob(List.of(), employee("Eva"));
+    assertThat(repository.claim(expired, "crashed-instance", Duration.ZERO)).isTrue();
+    assertThat(repository.claim(leased, "other-instance", Duration.ofMinutes(5))).isTrue();
+
+    service.resumeUnfinished();
+
+    awaitStatus(queued, EmployeeBulkJobStatus.COMPLETED);
+    awaitStatus(expired, EmployeeBulkJobStatus.COMPLETED);
+    assertThat(savedChunks).containsExactlyInAnyOrder(List.of("Ana"), List.of("Luis"));
+    assertThat(service.find(leased).getStatus()).isEqualTo(EmployeeBulkJobStatus.RUNNING);
+    assertThat(repository.findClaimableIds()).isEmpty();
+  }
+
+  @Test
+  void runReleasesLeaseWhenStoppedByShutdown() throws Exception {
+    when(employeeService.createAll(anyList())).thenAnswer(invocation -> {
+      service.shutdown();
+      throw new IllegalStateException("EntityManagerFactory is closed");
+    });
+    String id = insertJob(List.of(), employee("Ana"));
+
+    service.run(id);
+
+    EmployeeBulkJob job = service.find(id);
+    assertThat(job.getStatus()).isEqualTo(EmployeeBulkJobStatus.RUNNING);
+    assertThat(job.getProcessed()).isZero();
+    assertThat(repository.findClaimableIds()).containsExactly(id);
+    assertThat(repository.claim(id, "other-instance", Duration.ofMinutes(5))).isTrue();
+  }
+
+  @Test
+  void failedChunkReportsEachRow() throws Exception {
+    when(employeeService.createAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+    String id = insertJob(List.of(), employee("Ana"), employee("Luis"));
+
+    service.run(id);
+
+    EmployeeBulkJob job = service.find(id);
+    assertThat(job.getStatus()).isEqualTo(EmployeeBulkJobStatus.COMPLETED);
+    assertThat(job.getFailed()).isEqualTo(2);
+    assertThat(service.findResults(id, null, 10).getItems()).extracting(result -> result.getErrors().get(0))
+        .containsExactly("Employee could not be saved", "Employee could not be saved");
+  }
+
+  @Test
+  void submitRejectsWhenQueueIsFull() throws Exception {
+    service.shutdown();
+    service = newService(1, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(employeeService.createAll(anyList())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return invocation.getArgument(0);
+    });
+
+    EmployeeBulkJob running = service.submit(List.of(employee("Ana")), List.of());
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    EmployeeBulkJob queued = service.submit(List.of(employee("Luis")), List.of());
+
+    assertThatThrownBy(() -> service.submit(List.of(employee("Eva")), List.of()))
+        .isInstanceOf(EmployeeBulkJobRejectedException.class);
+    assertThat(repository.findClaimableIds()).containsExactly(queued.getId());
+    release.countDown();
+  }
+
+  @Test
+  void submitRejectsEmptyBatchesAndFindRejectsUnknownJobs() {
+    assertThatThrownBy(() -> service.submit(List.of(), List.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("at least one employee");
+    assertThatThrownBy(() -> service.find("missing"))
+        .isInstanceOf(EmployeeBulkJobNotFoundException.class);
+  }
+
+  private EmployeeBulkJobService newService(int workers, int queueCapacity) {
+    return new EmployeeBulkJobService(
+        employeeService,
+        repository,
+        objectMapper,
+        new DataSourceTransactionManager(dataSource),
+        workers,
+        queueCapacity,
+        2,
+        100,
+        300);
+  }
+
+  private void awaitStatus(String id, EmployeeBulkJobStatus status) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (service.find(id).getStatus() != status && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(service.find(id).getStatus()).isEqualTo(status);
+  }
+
+  private String insertJob(List<EmployeeBulkJobResult> rejected, Employee... rows) throws Exception {
+    String id = UUID.randomUUID().toString();
+    repository.insert(id, rows.length, objectMapper.writeValueAsString(Arrays.asList(rows)), rejected);
+    return id;
+  }
+
+  private void recordSavedChunks() {
+    AtomicLong ids = new AtomicLong();
+    when(employeeService.createAll(anyList())).thenAnswer(invocation -> {
+      List<Employee> employees = invocation.getArgument(0);
+      savedChunks.add(employees.stream().map(Employee::getFirstName).toList());
+      employees.forEach(employee -> employee.setId(ids.incrementAndGet()));
+      return employees;
+    });
+  }
+
+  private Employee employee(String firstName) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName("Ruiz");
+    employee.setActive(true);
+    return employee;
+  }
+}
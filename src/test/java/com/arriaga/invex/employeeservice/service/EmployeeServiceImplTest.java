@@ -3,14 +3,40 @@ package com.arriaga.invex.employeeservice.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.arriaga.invex.employeeservice.cache.EmployeeCache;
+import com.arriaga.invex.employeeservice.datasource.ReadYourWritesTracker;
+import com.arriaga.invex.employeeservice.datasource.ReplicaRoutingDataSource;
 import com.arriaga.invex.employeeservice.domain.Employee;
+import com.arriaga.invex.employeeservice.domain.EmployeeFilter;
 import com.arriaga.invex.employeeservice.exception.EmployeeNotFoundException;
+import com.arriaga.invex.employeeservice.exception.EmployeeVersionMismatchException;
+import com.arriaga.invex.employeeservice.persistence.EmployeeChangeRepository;
+import com.arriaga.invex.employeeservice.persistence.EmployeeReadRepository;
 import com.arriaga.invex.employeeservice.persistence.EmployeeRepository;
+import com.arriaga.invex.employeeservice.persistence.EmployeeUpdateRepository;
+import com.arriaga.invex.employeeservice.persistence.HeadcountRow;
+import com.arriaga.invex.employeeservice.search.EmployeeSearchIndex;
+import com.arriaga.invex.employeeservice.search.NameSuggestion;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +44,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
@@ -25,14 +61,45 @@ class EmployeeServiceImplTest {
   @Mock
   private EmployeeRepository repository;
 
+  @Mock
+  private EmployeeReadRepository readRepository;
+
+  @Mock
+  private EmployeeUpdateRepository updateRepository;
+
+  @Mock
+  private EmployeeChangeRepository changeRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private EmployeeChangeListener changeListener;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @Captor
   private ArgumentCaptor<Employee> employeeCaptor;
 
+  private EmployeeSearchIndex searchIndex;
+  private EmployeeCache employeeCache;
   private EmployeeServiceImpl service;
 
   @BeforeEach
   void setUp() {
-    service = new EmployeeServiceImpl(repository);
+    searchIndex = new EmployeeSearchIndex();
+    employeeCache = new EmployeeCache(100, Duration.ofMinutes(1));
+    service = new EmployeeServiceImpl(
+        repository,
+        readRepository,
+        updateRepository,
+        changeRepository,
+        entityManager,
+        searchIndex,
+        employeeCache,
+        List.of(changeListener),
+        transactionManager);
   }
 
   @Test
@@ -52,6 +119,7 @@ class EmployeeServiceImplTest {
     assertThat(saved.getLastName()).isEqualTo("Ruiz");
     assertThat(saved.getSex()).isEqualTo("F");
     assertThat(saved.getPosition()).isEqualTo("Engineer");
+    assertThat(saved.getSearchName()).isEqualTo("ana ruiz");
   }
 
   @Test
@@ -63,6 +131,171 @@ class EmployeeServiceImplTest {
         .hasMessageContaining("99");
   }
 
+  @Test
+  void getByIdReadsThroughCacheUntilDeleted() {
+    Employee ana = employeeWithId(4L);
+    when(repository.findById(4L)).thenReturn(Optional.of(ana));
+
+    assertThat(service.getById(4L)).isSameAs(ana);
+    assertThat(service.getById(4L)).isSameAs(ana);
+    verify(repository, times(1)).findById(4L);
+
+    service.deleteById(4L);
+
+    assertThat(employeeCache.size()).isZero();
+    verify(changeListener).employeeDeleted(4L);
+  }
+
+  @Test
+  void cacheLoadersReadThePrimaryWhileTheReplicaLags() {
+    DataSource primary = database("primary");
+    DataSource replica = database("replica");
+    DataSource routing = new LazyConnectionDataSourceProxy(
+        new ReplicaRoutingDataSource(primary, replica, new ReadYourWritesTracker(Duration.ofMinutes(1))));
+    DataSourceTransactionManager routingTransactions = new DataSourceTransactionManager(routing);
+    TransactionTemplate readOnly = new TransactionTemplate(routingTransactions);
+    readOnly.setReadOnly(true);
+    JdbcTemplate jdbc = new JdbcTemplate(routing);
+    when(repository.findById(4L)).thenAnswer(invocation -> Optional.of(employeeIn(jdbc, 4L)));
+    when(repository.findAllById(List.of(4L))).thenAnswer(invocation -> List.of(employeeIn(jdbc, 4L)));
+    EmployeeServiceImpl routedService = new EmployeeServiceImpl(
+        repository,
+        readRepository,
+        updateRepository,
+        changeRepository,
+        entityManager,
+        searchIndex,
+        employeeCache,
+        List.of(changeListener),
+        routingTransactions);
+
+    assertThat(readOnly.execute(status -> routedService.getById(4L)).getFirstName()).isEqualTo("Ana");
+    new JdbcTemplate(primary).update("UPDATE employee SET first_name = 'Ana Maria' WHERE id = 4");
+    employeeCache.evict(4L);
+
+    assertThat(readOnly.execute(status -> employeeIn(jdbc, 4L)).getFirstName()).isEqualTo("Ana");
+    assertThat(readOnly.execute(status -> routedService.getById(4L)).getFirstName()).isEqualTo("Ana Maria");
+    assertThat(employeeCache.getIfPresent(4L).getFirstName()).isEqualTo("Ana Maria");
+
+    employeeCache.evict(4L);
+
+    assertThat(readOnly.execute(status -> routedService.findAllByIds(List.of(4L))).getItems())
+        .extracting(Employee::getFirstName)
+        .containsExactly("Ana Maria");
+    assertThat(employeeCache.getIfPresent(4L).getFirstName()).isEqualTo("Ana Maria");
+  }
+
+  @Test
+  void writesRefreshCachedEmployee() {
+    Employee ana = employeeWithId(12L);
+    ana.setFirstName("Ana");
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repository.findById(12L)).thenReturn(Optional.of(ana));
+
+    service.create(ana);
+    Employee updates = new Employee();
+    updates.setFirstName("Maria");
+    service.updatePartial(12L, updates);
+
+    assertThat(service.getById(12L).getFirstName()).isEqualTo("Maria");
+    verify(repository, times(1)).findById(12L);
+    verify(changeListener, times(2)).employeeSaved(ana);
+  }
+
+  @Test
+  void appliedWritesBumpTheChangeCounterThatBacksTheStamp() {
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repository.existsById(10L)).thenReturn(true);
+    when(changeRepository.current()).thenReturn(42L);
+    Employee updates = new Employee();
+    updates.setAge(31);
+
+    service.create(employeeWithId(12L));
+    service.deleteById(12L);
+    assertThatThrownBy(() -> service.updatePartial(10L, updates, 5L, false))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+
+    verify(changeRepository, times(2)).increment();
+    assertThat(service.changeStamp()).isEqualTo("42");
+  }
+
+  @Test
+  void createAllWarmsCache() {
+    Employee first = employeeWithId(21L);
+    Employee second = employeeWithId(22L);
+    when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    service.createAll(List.of(first, second));
+
+    assertThat(service.getById(22L)).isSameAs(second);
+    verify(repository, never()).findById(any());
+  }
+
+  @Test
+  void importChunkClearsPersistenceContextEvenWhenSaveFails() {
+    when(repository.saveAll(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0))
+        .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+    assertThat(service.importChunk(List.of(employeeWithId(31L)))).hasSize(1);
+    assertThatThrownBy(() -> service.importChunk(List.of(employeeWithId(32L))))
+        .isInstanceOf(DataIntegrityViolationException.class);
+
+    verify(entityManager, times(2)).clear();
+    verify(changeRepository, times(1)).increment();
+  }
+
+  @Test
+  void findAllByIdsKeepsRequestOrderAndReportsMissingIds() {
+    Employee cached = employeeWithId(3L);
+    employeeCache.put(cached);
+    Employee first = employeeWithId(1L);
+    when(repository.findAllById(List.of(7L, 1L))).thenReturn(List.of(first));
+
+    EmployeeLookup lookup = service.findAllByIds(List.of(7L, 3L, 1L, 3L));
+
+    assertThat(lookup.getItems()).containsExactly(cached, first);
+    assertThat(lookup.getMissingIds()).containsExactly(7L);
+    assertThat(employeeCache.getIfPresent(1L)).isSameAs(first);
+  }
+
+  @Test
+  void findAllByIdsQueriesInChunks() {
+    List<Long> ids = LongStream.rangeClosed(1, EmployeeServiceImpl.LOOKUP_CHUNK_SIZE + 1).boxed().toList();
+    when(repository.findAllById(anyList())).thenReturn(List.of());
+
+    EmployeeLookup lookup = service.findAllByIds(ids);
+
+    assertThat(lookup.getMissingIds()).hasSize(ids.size());
+    verify(repository, times(2)).findAllById(anyList());
+  }
+
+  @Test
+  void updatePartialRejectsStaleExpectedVersionWithoutSaving() {
+    Employee existing = employeeWithId(10L);
+    existing.setVersion(5L);
+    when(repository.findById(10L)).thenReturn(Optional.of(existing));
+
+    assertThatThrownBy(() -> service.updatePartial(10L, new Employee(), 4L))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+    verify(repository, never()).saveAndFlush(any(Employee.class));
+  }
+
+  @Test
+  void updatePartialTranslatesLostRaceIntoVersionMismatch() {
+    Employee existing = employeeWithId(10L);
+    existing.setVersion(5L);
+    when(repository.findById(10L)).thenReturn(Optional.of(existing));
+    when(repository.saveAndFlush(any(Employee.class)))
+        .thenThrow(new ObjectOptimisticLockingFailureException(Employee.class, 10L));
+
+    assertThatThrownBy(() -> service.updatePartial(10L, new Employee(), 5L))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+    assertThatThrownBy(() -> service.updatePartial(10L, new Employee()))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+  }
+
   @Test
   void updatePartialUpdatesOnlyProvidedFields() {
     Employee existing = new Employee();
@@ -77,7 +310,7 @@ class EmployeeServiceImplTest {
     updates.setBirthDate(LocalDate.of(1993, 1, 1));
 
     when(repository.findById(10L)).thenReturn(Optional.of(existing));
-    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     Employee saved = service.updatePartial(10L, updates);
 
@@ -86,7 +319,312 @@ class EmployeeServiceImplTest {
     assertThat(saved.getAge()).isEqualTo(31);
     assertThat(saved.getBirthDate()).isEqualTo(LocalDate.of(1993, 1, 1));
 
-    verify(repository).save(employeeCaptor.capture());
+    verify(repository).saveAndFlush(employeeCaptor.capture());
     assertThat(employeeCaptor.getValue().getFirstName()).isEqualTo("Maria");
+    assertThat(employeeCaptor.getValue().getSearchName()).isEqualTo("maria ruiz");
+  }
+
+  @Test
+  void updatePartialPublishesLoadedUpdateOnlyAfterCommit() {
+    Employee existing = employeeWithId(10L);
+    existing.setFirstName("Ana");
+    existing.setLastName("Ruiz");
+    Employee updates = new Employee();
+    updates.setFirstName("Maria");
+    when(repository.findById(10L)).thenReturn(Optional.of(existing));
+    when(repository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      service.updatePartial(10L, updates);
+
+      assertThat(searchIndex.search("maria", 10)).isEmpty();
+      assertThat(employeeCache.getIfPresent(10L)).isNull();
+      verify(changeListener, never()).employeeSaved(any());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(searchIndex.search("maria", 10)).containsExactly(10L);
+    assertThat(employeeCache.getIfPresent(10L)).isSameAs(existing);
+    verify(changeListener).employeeSaved(existing);
+  }
+
+  @Test
+  void updatePartialWithoutNameChangesUpdatesColumnsInPlace() {
+    employeeCache.put(employeeWithId(10L));
+    Employee updates = new Employee();
+    updates.setAge(31);
+    updates.setPosition(" Lead ");
+    when(updateRepository.updateFields(eq(10L), any(), eq(5L))).thenReturn(1);
+
+    assertThat(service.updatePartial(10L, updates, 5L, false)).isNull();
+
+    verify(updateRepository).updateFields(10L, Map.of("age", 31, "position", "Lead"), 5L);
+    verify(repository, never()).findById(any());
+    verify(changeListener).employeeUpdated(10L);
+    assertThat(employeeCache.getIfPresent(10L)).isNull();
+  }
+
+  @Test
+  void updatePartialInPlaceReadsBackOnlyWhenRequested() {
+    Employee reloaded = employeeWithId(10L);
+    reloaded.setAge(31);
+    Employee updates = new Employee();
+    updates.setAge(31);
+    when(updateRepository.updateFields(10L, Map.of("age", 31), null)).thenReturn(1);
+    when(repository.findById(10L)).thenReturn(Optional.of(reloaded));
+
+    assertThat(service.updatePartial(10L, updates)).isSameAs(reloaded);
+    assertThat(employeeCache.getIfPresent(10L)).isSameAs(reloaded);
+    verify(changeListener).employeeSaved(reloaded);
+  }
+
+  @Test
+  void updatePartialInPlaceTellsMissingFromStaleByRowCount() {
+    Employee updates = new Employee();
+    updates.setActive(false);
+    when(updateRepository.updateFields(any(), any(), any())).thenReturn(0);
+    when(repository.existsById(10L)).thenReturn(false);
+    when(repository.existsById(11L)).thenReturn(true);
+
+    assertThatThrownBy(() -> service.updatePartial(10L, updates, 5L, false))
+        .isInstanceOf(EmployeeNotFoundException.class);
+    assertThatThrownBy(() -> service.updatePartial(11L, updates, 5L, false))
+        .isInstanceOf(EmployeeVersionMismatchException.class);
+    verify(changeListener, never()).employeeUpdated(any());
+  }
+
+  @Test
+  void searchIdsByNameQueriesNormalizedTermWithBoundedLimit() {
+    Employee ana = employeeWithId(1L);
+    when(repository.searchByName("ana ruiz", 20)).thenReturn(List.of(ana));
+
+    assertThat(service.searchIdsByName("  Ana   RUIZ ", 20, false)).containsExactly(1L);
+  }
+
+  @Test
+  void searchIdsByNameUsesReadyIndexAndKeepsItCurrentOnWrites() {
+    searchIndex.markReady();
+    Employee ana = new Employee();
+    ana.setFirstName("Ana");
+    ana.setLastName("Ruiz");
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> {
+      Employee saved = invocation.getArgument(0);
+      saved.setId(5L);
+      return saved;
+    });
+    service.create(ana);
+
+    assertThat(service.searchIdsByName("a ru", 10, false)).containsExactly(5L);
+
+    service.deleteById(5L);
+
+    assertThat(service.searchIdsByName("a ru", 10, false)).isEmpty();
+    verify(repository).deleteById(5L);
+  }
+
+  @Test
+  void searchIdsByNameFuzzyToleratesTypos() {
+    searchIndex.markReady();
+    Employee ana = employeeWithId(6L);
+    ana.setFirstName("Ana");
+    ana.setLastName("Gonzalez");
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    service.create(ana);
+
+    assertThat(service.searchIdsByName("gonsales", 10, true)).containsExactly(6L);
+    assertThat(service.searchIdsByName("gonsales", 10, false)).isEmpty();
+  }
+
+  @Test
+  void searchIdsByNameMatchesAccentFoldedKeys() {
+    searchIndex.markReady();
+    Employee perez = employeeWithId(9L);
+    perez.setFirstName("José");
+    perez.setLastName("Pérez");
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    Employee saved = service.create(perez);
+
+    assertThat(saved.getSearchName()).isEqualTo("jose perez");
+    assertThat(service.searchIdsByName("PEREZ", 10, false)).containsExactly(9L);
+    assertThat(service.searchIdsByName("josé", 10, false)).containsExactly(9L);
+  }
+
+  @Test
+  void suggestNamesReadsTokensFromIndex() {
+    Employee ana = employeeWithId(8L);
+    ana.setFirstName("Ana");
+    ana.setLastName("Ruiz");
+    when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    service.create(ana);
+
+    assertThat(service.suggestNames(" RU", 5)).extracting(NameSuggestion::getToken).containsExactly("ruiz");
+    assertThat(service.suggestNames(" ", 5)).isEmpty();
+  }
+
+  @Test
+  void searchIdsByNameSkipsBlankTerm() {
+    assertThat(service.searchIdsByName("   ", 10, false)).isEmpty();
+  }
+
+  @Test
+  void findPageFieldsProjectsRequestedColumnsAndKeepsCursorWithoutId() {
+    when(readRepository.findProjected(eq(List.of("firstName")), any(), eq(0L), eq(2)))
+        .thenReturn(List.of(projectedRow(4L, "Ana"), projectedRow(9L, "Luis")));
+
+    EmployeePage<Map<String, Object>> page =
+        service.findPageFields(null, null, 1, EnumSet.of(EmployeeField.FIRST_NAME));
+
+    assertThat(page.getItems()).containsExactly(Map.of("firstName", "Ana"));
+    assertThat(page.getNextAfterId()).isEqualTo(4L);
+  }
+
+  @Test
+  void findAllFieldsPassesFilterToProjection() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setActive(false);
+    when(readRepository.findProjected(List.of("firstName"), filter, 0L, null))
+        .thenReturn(List.of(projectedRow(7L, "Luis")));
+
+    assertThat(service.findAllFields(filter, EnumSet.of(EmployeeField.FIRST_NAME)))
+        .containsExactly(Map.of("firstName", "Luis"));
+  }
+
+  @Test
+  void getFieldsByIdThrowsWhenMissing() {
+    when(readRepository.findProjectedByIds(List.of("id", "active"), List.of(5L))).thenReturn(List.of());
+
+    assertThatThrownBy(() -> service.getFieldsById(5L, EnumSet.of(EmployeeField.ID, EmployeeField.ACTIVE)))
+        .isInstanceOf(EmployeeNotFoundException.class);
+  }
+
+  @Test
+  void findPageFieldsRejectsInvertedRanges() {
+    EmployeeFilter ages = new EmployeeFilter();
+    ages.setMinAge(40);
+    ages.setMaxAge(30);
+    EmployeeFilter births = new EmployeeFilter();
+    births.setBornFrom(LocalDate.of(2000, 1, 1));
+    births.setBornTo(LocalDate.of(1990, 1, 1));
+
+    assertThatThrownBy(() -> service.findPageFields(ages, null, 10, EnumSet.of(EmployeeField.ID)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("minAge");
+    assertThatThrownBy(() -> service.findPageFields(births, null, 10, EnumSet.of(EmployeeField.ID)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bornFrom");
+  }
+
+  @Test
+  void findAllFieldsRejectsInvertedRangesBeforeQuerying() {
+    EmployeeFilter ages = new EmployeeFilter();
+    ages.setMinAge(40);
+    ages.setMaxAge(30);
+
+    assertThatThrownBy(() -> service.findAllFields(ages, EnumSet.of(EmployeeField.ID)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("minAge");
+    verify(readRepository, never()).findProjected(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  void exportAllStreamsRowsAndClearsPersistenceContextPerFetchBatch() {
+    int total = EmployeeRepository.STREAM_FETCH_SIZE * 2 + 1;
+    when(repository.streamAllOrderById())
+        .thenReturn(LongStream.rangeClosed(1, total).mapToObj(this::employeeWithId));
+
+    List<Long> exported = new ArrayList<>();
+    service.exportAll(employee -> exported.add(employee.getId()));
+
+    assertThat(exported).hasSize(total).startsWith(1L, 2L);
+    verify(entityManager, times(2)).clear();
+  }
+
+  @Test
+  void headcountRollsGroupedRowsUpToRequestedDimensions() {
+    when(repository.countByPositionSexAndActive()).thenReturn(List.of(
+        row("Engineer", "F", true, 3L, 90L, 3L),
+        row("Engineer", "M", true, 1L, null, 0L),
+        row("Engineer", "M", false, 2L, 80L, 2L),
+        row("Analyst", "F", true, 4L, 100L, 4L)));
+
+    List<HeadcountGroup> byPosition = service.headcount(EnumSet.of(HeadcountDimension.POSITION));
+    List<HeadcountGroup> total = service.headcount(EnumSet.noneOf(HeadcountDimension.class));
+
+    assertThat(byPosition).hasSize(2);
+    assertThat(byPosition.get(0).getKeys()).containsEntry(HeadcountDimension.POSITION, "Engineer");
+    assertThat(byPosition.get(0).getCount()).isEqualTo(6L);
+    assertThat(byPosition.get(0).getAverageAge()).isEqualTo(34.0);
+    assertThat(byPosition.get(1).getAverageAge()).isEqualTo(25.0);
+    assertThat(total).singleElement().satisfies(group -> {
+      assertThat(group.getKeys()).isEmpty();
+      assertThat(group.getCount()).isEqualTo(10L);
+    });
+  }
+
+  private HeadcountRow row(String position, String sex, Boolean active, Long employees, Long ageSum, Long aged) {
+    return new HeadcountRow() {
+      @Override
+      public String getPosition() {
+        return position;
+      }
+
+      @Override
+      public String getSex() {
+        return sex;
+      }
+
+      @Override
+      public Boolean getActive() {
+        return active;
+      }
+
+      @Override
+      public Long getEmployees() {
+        return employees;
+      }
+
+      @Override
+      public Long getAgeSum() {
+        return ageSum;
+      }
+
+      @Override
+      public Long getAgedEmployees() {
+        return aged;
+      }
+    };
+  }
+
+  private Employee employeeIn(JdbcTemplate jdbc, Long id) {
+    Employee employee = employeeWithId(id);
+    employee.setFirstName(jdbc.queryForObject("SELECT first_name FROM employee WHERE id = ?", String.class, id));
+    return employee;
+  }
+
+  private DataSource database(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:cache_" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute("CREATE TABLE employee (id BIGINT PRIMARY KEY, first_name VARCHAR(50))");
+    template.update("INSERT INTO employee (id, first_name) VALUES (4, 'Ana')");
+    return dataSource;
+  }
+
+  private Employee employeeWithId(Long id) {
+    Employee employee = new Employee();
+    employee.setId(id);
+    return employee;
+  }
+
+  private Map<String, Object> projectedRow(Long id, String firstName) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("id", id);
+    row.put("firstName", firstName);
+    return row;
   }
 }